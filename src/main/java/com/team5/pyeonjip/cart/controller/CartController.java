@@ -2,7 +2,10 @@ package com.team5.pyeonjip.cart.controller;
 
 import com.team5.pyeonjip.cart.dto.CartDetailDto;
 import com.team5.pyeonjip.cart.dto.CartDto;
+import com.team5.pyeonjip.cart.dto.CartValidationItem;
+import com.team5.pyeonjip.cart.dto.CartValidationResponse;
 import com.team5.pyeonjip.cart.service.CartService;
+import com.team5.pyeonjip.cart.service.CartValidationService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
@@ -10,6 +13,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.stream.IntStream;
 
 @RestController
 @RequestMapping("api/cart")
@@ -17,6 +21,7 @@ import java.util.List;
 @Slf4j
 public class CartController {
     private final CartService cartService;
+    private final CartValidationService cartValidationService;
 
     // 로그인 동기화 (로컬 -> 서버)
     @PostMapping("/sync")
@@ -29,11 +34,25 @@ public class CartController {
     public ResponseEntity<List<CartDetailDto>> getCartDetails(
             @RequestParam("optionId") List<Long> optionId,
             @RequestParam("quantity") List<Long> quantity) {
-        List<CartDto> cartDtos =
-                optionId.stream().map(id -> new CartDto(id, quantity.get(optionId.indexOf(id)))).toList();
+        List<CartDto> cartDtos = IntStream.range(0, optionId.size())
+                .mapToObj(i -> new CartDto(optionId.get(i), quantity.get(i)))
+                .toList();
         return ResponseEntity.status(HttpStatus.OK).body(cartService.mapCartDtosToCartDetails(cartDtos));
     }
 
+    // 결제 전 장바구니 전체 재고/가격 확인 (본문이 없으면 서버 장바구니 기준, 가격 비교 없음)
+    @PostMapping("/validate")
+    public ResponseEntity<CartValidationResponse> validateCart(
+            @RequestBody(required = false) List<CartValidationItem> items,
+            @RequestParam(value = "email", required = false) String email) {
+        if ((items == null || items.isEmpty()) && email != null) {
+            items = cartService.getCartItemsByEmail(email).stream()
+                    .map(cartDto -> new CartValidationItem(cartDto.getOptionId(), cartDto.getQuantity(), null))
+                    .toList();
+        }
+        return ResponseEntity.status(HttpStatus.OK).body(cartValidationService.validate(items != null ? items : List.of()));
+    }
+
     // 추가
     @PostMapping
     public ResponseEntity<CartDto> addCart(@RequestBody CartDto cartDto, @RequestParam("email") String email) {
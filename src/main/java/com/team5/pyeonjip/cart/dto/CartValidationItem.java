@@ -0,0 +1,20 @@
+package com.team5.pyeonjip.cart.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter @Setter
+public class CartValidationItem {
+    private Long optionId;
+    private Long quantity;
+    private Long price; // 클라이언트가 보고 있는 가격 (없으면 가격 변경 여부를 확인하지 않음)
+
+    public CartValidationItem(Long optionId, Long quantity, Long price) {
+        this.optionId = optionId;
+        this.quantity = quantity;
+        this.price = price;
+    }
+
+    public CartValidationItem() {
+    }
+}
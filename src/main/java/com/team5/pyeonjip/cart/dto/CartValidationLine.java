@@ -0,0 +1,17 @@
+package com.team5.pyeonjip.cart.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 장바구니 항목별 검증 결과
+@Getter
+@AllArgsConstructor
+public class CartValidationLine {
+    private Long optionId;
+    private Long requestedQuantity;
+    private Long availableQuantity; // 옵션이 없으면 0
+    private Long price; // 현재 가격 (옵션이 없으면 null)
+    private boolean exists;
+    private boolean available; // 옵션이 있고 재고가 요청 수량 이상
+    private boolean priceChanged;
+}
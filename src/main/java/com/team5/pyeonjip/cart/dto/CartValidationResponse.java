@@ -0,0 +1,14 @@
+package com.team5.pyeonjip.cart.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class CartValidationResponse {
+    private boolean valid; // 모든 항목 구매 가능
+    private boolean priceChanged; // 가격이 바뀐 항목 존재
+    private List<CartValidationLine> lines;
+}
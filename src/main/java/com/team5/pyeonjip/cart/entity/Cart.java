@@ -1,5 +1,7 @@
 package com.team5.pyeonjip.cart.entity;
 
+import com.team5.pyeonjip.global.entity.BaseTimeEntity;
+import com.team5.pyeonjip.global.entity.IdSequence;
 import com.team5.pyeonjip.product.entity.Product;
 import com.team5.pyeonjip.product.entity.ProductDetail;
 import jakarta.persistence.*;
@@ -13,10 +15,20 @@ import java.util.List;
 
 @Entity
 @Getter @Setter
-public class Cart {
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_cart_email_option", columnNames = {"email", "option_id"}),
+        indexes = {
+                @Index(name = "idx_cart_option", columnList = "option_id"),
+                @Index(name = "idx_cart_updated_at", columnList = "updated_at, id")
+        })
+// 기존 행에 컬럼이 추가될 때 0 값이 들어가지 않도록 NULL 허용 (CartMaintenanceJob이 현재 시각으로 채움)
+@AttributeOverride(name = "createdAt", column = @Column(name = "created_at", updatable = false, columnDefinition = "TIMESTAMP NULL"))
+@AttributeOverride(name = "updatedAt", column = @Column(name = "updated_at", columnDefinition = "TIMESTAMP NULL"))
+public class Cart extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "cart_id_generator")
+    @TableGenerator(name = "cart_id_generator", table = IdSequence.TABLE, pkColumnName = IdSequence.PK_COLUMN,
+            valueColumnName = IdSequence.VALUE_COLUMN, pkColumnValue = "cart", allocationSize = IdSequence.ALLOCATION_SIZE)
     private Long id;
 
     private String email; // 사용자 식별
@@ -26,6 +38,9 @@ public class Cart {
     private Long quantity; // 사용자가 선택한 수량 (기본값 : 1)
 
     public Cart(String email, Long optionId, Long quantity) {
+        this.email = email;
+        this.optionId = optionId;
+        this.quantity = quantity;
     }
 
     public Cart() {
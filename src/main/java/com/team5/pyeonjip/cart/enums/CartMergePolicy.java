@@ -0,0 +1,16 @@
+package com.team5.pyeonjip.cart.enums;
+
+// 로그인 동기화 시 서버, 로컬 장바구니에 같은 옵션이 있을 때 수량 결정 방식
+public enum CartMergePolicy {
+    SUM, // 서버 + 로컬
+    MAX, // 둘 중 큰 수량
+    LOCAL_WINS; // 로컬 수량으로 덮어쓰기 (0이면 삭제)
+
+    public long merge(long serverQuantity, long localQuantity) {
+        return switch (this) {
+            case SUM -> serverQuantity + localQuantity;
+            case MAX -> Math.max(serverQuantity, localQuantity);
+            case LOCAL_WINS -> localQuantity;
+        };
+    }
+}
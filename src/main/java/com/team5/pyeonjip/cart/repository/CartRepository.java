@@ -1,21 +1,64 @@
 package com.team5.pyeonjip.cart.repository;
 
 import com.team5.pyeonjip.cart.entity.Cart;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.sql.Timestamp;
+import java.util.Collection;
 import java.util.List;
-import java.util.Optional;
 
 @Repository
 public interface CartRepository extends JpaRepository<Cart, Long> {
-    Optional<List<Cart>> findAllByEmail(String email);
+    List<Cart> findAllByEmail(String email);
 
     Cart findByEmailAndOptionId(String email, Long optionId);
 
     void deleteByEmailAndOptionId(String email, Long optionId);
 
-    void deleteAllByEmail(String email);
+    // 벌크 삭제 (즉시 실행되므로 같은 트랜잭션에서 같은 옵션을 다시 추가해도 유니크 제약에 걸리지 않음)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Cart c WHERE c.email = :email")
+    int deleteAllByEmail(@Param("email") String email);
 
-    void deleteByOptionId(Long optionId);
+    // 옵션 삭제 시 해당 옵션의 모든 장바구니 항목 삭제 (option_id 인덱스 사용)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Cart c WHERE c.optionId = :optionId")
+    int deleteByOptionId(@Param("optionId") Long optionId);
+
+    // 사용자의 여러 옵션을 한 번에 삭제
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Cart c WHERE c.email = :email AND c.optionId IN :optionIds")
+    int deleteByEmailAndOptionIdIn(@Param("email") String email, @Param("optionIds") Collection<Long> optionIds);
+
+    /*
+     * 장바구니 정리 작업용 쿼리
+     * - 만료 대상은 (updated_at, id) 인덱스 순서로 앞에서부터 조회한다. 조회한 행은 삭제되거나 그 사이 갱신되어
+     *   다시 조회되지 않으므로 커서 없이도 다음 청크로 진행된다.
+     * - 삭제 시 updated_at 조건을 다시 걸어 조회 이후 갱신된 항목은 남긴다.
+     */
+    @Query("SELECT c.id FROM Cart c WHERE c.updatedAt < :cutoff ORDER BY c.updatedAt, c.id")
+    List<Long> findExpiredIds(@Param("cutoff") Timestamp cutoff, Pageable pageable);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Cart c WHERE c.id IN :ids AND c.updatedAt < :cutoff")
+    int deleteExpired(@Param("ids") Collection<Long> ids, @Param("cutoff") Timestamp cutoff);
+
+    // id 키셋으로 (id, optionId) 순회
+    @Query("SELECT c.id, c.optionId FROM Cart c WHERE c.id > :lastId ORDER BY c.id")
+    List<Object[]> findOptionIdsAfter(@Param("lastId") Long lastId, Pageable pageable);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Cart c WHERE c.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
+
+    // updated_at 컬럼 추가 전 행 (NULL)을 현재 시각으로 채움
+    @Modifying
+    @Query(value = "UPDATE cart SET updated_at = CURRENT_TIMESTAMP, created_at = COALESCE(created_at, CURRENT_TIMESTAMP) " +
+            "WHERE updated_at IS NULL LIMIT :limit", nativeQuery = true)
+    int touchUndated(@Param("limit") int limit);
 }
@@ -0,0 +1,182 @@
+package com.team5.pyeonjip.cart.service;
+
+import com.team5.pyeonjip.cart.repository.CartRepository;
+import com.team5.pyeonjip.product.repository.ProductDetailRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * cart 테이블 정리 작업 (app.cart.maintenance.enabled).
+ * - 오래 변경되지 않은 장바구니 항목과 삭제된 옵션을 가리키는 항목을 지운다.
+ * - 청크마다 짧은 트랜잭션으로 처리하고 청크 사이에 쉬어 긴 락과 복제 지연을 만들지 않는다.
+ * - 한 번 실행에 처리하는 청크 수를 제한하며, 남은 항목은 다음 주기에 이어서 처리한다.
+ * - 여러 인스턴스에서 동시에 실행되지 않도록 Redisson 락을 잡은 인스턴스만 실행한다.
+ */
+@Slf4j
+@Component
+public class CartMaintenanceJob {
+
+    private static final String LOCK_KEY = "lock:cart:maintenance";
+
+    private final CartRepository cartRepository;
+    private final ProductDetailRepository productDetailRepository;
+    private final RedissonClient redissonClient;
+    private final TransactionTemplate transactionTemplate;
+
+    private final boolean enabled;
+    private final Duration expireAfter;
+    private final int chunkSize;
+    private final long pauseMs;
+    private final int maxChunks;
+
+    // 삭제된 옵션 확인을 이어서 할 위치 (끝까지 확인하면 처음부터)
+    private long orphanCursor;
+
+    public CartMaintenanceJob(CartRepository cartRepository,
+                              ProductDetailRepository productDetailRepository,
+                              RedissonClient redissonClient,
+                              TransactionTemplate transactionTemplate,
+                              @Value("${app.cart.maintenance.enabled:true}") boolean enabled,
+                              @Value("${app.cart.maintenance.expire-days:30}") long expireDays,
+                              @Value("${app.cart.maintenance.chunk-size:500}") int chunkSize,
+                              @Value("${app.cart.maintenance.pause-ms:100}") long pauseMs,
+                              @Value("${app.cart.maintenance.max-chunks:200}") int maxChunks) {
+        this.cartRepository = cartRepository;
+        this.productDetailRepository = productDetailRepository;
+        this.redissonClient = redissonClient;
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = enabled;
+        this.expireAfter = Duration.ofDays(expireDays);
+        this.chunkSize = chunkSize;
+        this.pauseMs = pauseMs;
+        this.maxChunks = maxChunks;
+    }
+
+    @Scheduled(initialDelayString = "${app.cart.maintenance.initial-delay-ms:60000}",
+            fixedDelayString = "${app.cart.maintenance.interval-ms:3600000}")
+    public void run() {
+        if (!enabled) {
+            return;
+        }
+
+        RLock lock = redissonClient.getLock(LOCK_KEY);
+        if (!lock.tryLock()) {
+            log.debug("[장바구니 정리]: 다른 인스턴스에서 실행 중");
+            return;
+        }
+
+        try {
+            int touched = touchUndated();
+            int expired = deleteExpired();
+            int orphans = deleteOrphans();
+            log.info("[장바구니 정리]: 시각 보정 {}건, 만료 {}건, 삭제된 옵션 {}건", touched, expired, orphans);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            if (lock.isHeldByCurrentThread()) {
+                lock.unlock();
+            }
+        }
+    }
+
+    // updated_at 컬럼이 추가되기 전 행은 지금 갱신된 것으로 보고 만료 기간을 새로 시작한다.
+    private int touchUndated() throws InterruptedException {
+        int total = 0;
+        for (int chunk = 0; chunk < maxChunks; chunk++) {
+            Integer updated = transactionTemplate.execute(status -> cartRepository.touchUndated(chunkSize));
+            total += Objects.requireNonNullElse(updated, 0);
+            if (updated == null || updated < chunkSize) {
+                break;
+            }
+            pause();
+        }
+        return total;
+    }
+
+    private int deleteExpired() throws InterruptedException {
+        Timestamp cutoff = Timestamp.from(Instant.now().minus(expireAfter));
+
+        int total = 0;
+        for (int chunk = 0; chunk < maxChunks; chunk++) {
+            List<Long> ids = cartRepository.findExpiredIds(cutoff, PageRequest.of(0, chunkSize));
+            if (ids.isEmpty()) {
+                break;
+            }
+
+            Integer deleted = transactionTemplate.execute(status -> cartRepository.deleteExpired(ids, cutoff));
+            total += Objects.requireNonNullElse(deleted, 0);
+            if (ids.size() < chunkSize) {
+                break;
+            }
+            pause();
+        }
+        return total;
+    }
+
+    // id 순으로 청크를 읽어 없는 옵션을 가리키는 항목 삭제
+    private int deleteOrphans() throws InterruptedException {
+        long lastId = orphanCursor;
+        orphanCursor = 0L;
+
+        int total = 0;
+        for (int chunk = 0; chunk < maxChunks; chunk++) {
+            List<Object[]> rows = cartRepository.findOptionIdsAfter(lastId, PageRequest.of(0, chunkSize));
+            if (rows.isEmpty()) {
+                break;
+            }
+
+            Set<Long> optionIds = new HashSet<>();
+            for (Object[] row : rows) {
+                if (row[1] != null) {
+                    optionIds.add((Long) row[1]);
+                }
+            }
+            Set<Long> existing = optionIds.isEmpty()
+                    ? Set.of()
+                    : new HashSet<>(productDetailRepository.findExistingIds(optionIds));
+
+            List<Long> orphanIds = new ArrayList<>();
+            for (Object[] row : rows) {
+                if (row[1] == null || !existing.contains((Long) row[1])) {
+                    orphanIds.add((Long) row[0]);
+                }
+            }
+
+            if (!orphanIds.isEmpty()) {
+                Integer deleted = transactionTemplate.execute(status -> cartRepository.deleteByIdIn(orphanIds));
+                total += Objects.requireNonNullElse(deleted, 0);
+            }
+
+            lastId = (Long) rows.getLast()[0];
+            if (rows.size() < chunkSize) {
+                break;
+            }
+            if (chunk == maxChunks - 1) {
+                orphanCursor = lastId;
+            }
+            pause();
+        }
+        return total;
+    }
+
+    private void pause() throws InterruptedException {
+        if (pauseMs > 0) {
+            Thread.sleep(pauseMs);
+        }
+    }
+}
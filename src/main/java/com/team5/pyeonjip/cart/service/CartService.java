@@ -2,130 +2,139 @@ package com.team5.pyeonjip.cart.service;
 
 import com.team5.pyeonjip.cart.dto.CartDetailDto;
 import com.team5.pyeonjip.cart.dto.CartDto;
-import com.team5.pyeonjip.cart.entity.Cart;
-import com.team5.pyeonjip.cart.repository.CartRepository;
+import com.team5.pyeonjip.cart.enums.CartMergePolicy;
+import com.team5.pyeonjip.cart.storage.CartStore;
 import com.team5.pyeonjip.global.exception.ErrorCode;
 import com.team5.pyeonjip.global.exception.GlobalException;
-import com.team5.pyeonjip.product.entity.ProductDetail;
-import com.team5.pyeonjip.product.repository.ProductDetailRepository;
-import jakarta.transaction.Transactional;
-import lombok.RequiredArgsConstructor;
+import com.team5.pyeonjip.product.dto.ProductOptionView;
+import com.team5.pyeonjip.product.service.StockView;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.function.Function;
-import java.util.stream.Collectors;
+import java.util.Objects;
+import java.util.TreeMap;
 import static com.team5.pyeonjip.global.exception.ErrorCode.*;
 
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class CartService {
-    private final CartRepository cartRepository;
-    private final ProductDetailRepository productDetailRepository;
+    private final CartStore cartStore;
+    private final StockView stockView;
+    private final CartViewAssembler cartViewAssembler;
+    private final CartMergePolicy mergePolicy;
+
+    public CartService(CartStore cartStore,
+                       StockView stockView,
+                       CartViewAssembler cartViewAssembler,
+                       @Value("${app.cart.sync.merge-policy:LOCAL_WINS}") CartMergePolicy mergePolicy) {
+        this.cartStore = cartStore;
+        this.stockView = stockView;
+        this.cartViewAssembler = cartViewAssembler;
+        this.mergePolicy = mergePolicy;
+    }
 
     // 조회
     public List<CartDto> getCartItemsByEmail(String email) {
-        List<Cart> serverCartItems = cartRepository.findAllByEmail(email)
-                .orElseThrow(() -> new GlobalException(ErrorCode.CART_NOT_FOUND));
-        return serverCartItems.stream()
-                .map(this::convertToCartDto)
-                .collect(Collectors.toList());
+        return toCartDtos(cartStore.findAll(email));
     }
 
+    // 옵션 정보를 한 번에 조회하여 장바구니 화면 데이터로 변환
     public List<CartDetailDto> mapCartDtosToCartDetails(List<CartDto> cartDtos) {
-        return cartDtos.stream().map(cartDto -> {
-            ProductDetail productDetail = productDetailRepository.findById(cartDto.getOptionId())
-                    .orElseThrow(() -> new GlobalException(PRODUCT_DETAIL_NOT_FOUND));
-            CartDetailDto cartDetailDto = new CartDetailDto();
-            cartDetailDto.setOptionId(productDetail.getId());
-            cartDetailDto.setName(productDetail.getProduct().getName());
-            cartDetailDto.setOptionName(productDetail.getName());
-            cartDetailDto.setPrice(productDetail.getPrice());
-            cartDetailDto.setQuantity(cartDto.getQuantity());
-            cartDetailDto.setMaxQuantity(productDetail.getQuantity());
-            cartDetailDto.setUrl(productDetail.getMainImage());
-            return cartDetailDto;
-        }).toList();
+        return cartViewAssembler.assemble(cartDtos);
     }
 
-    @Transactional
     public CartDto addCartDto(CartDto cartDto, String email) {
-        Cart existingCart = cartRepository.findByEmailAndOptionId(email, cartDto.getOptionId());
         if (cartDto.getQuantity() == null || cartDto.getQuantity() < 0) {
             throw new GlobalException(ErrorCode.CART_ITEM_QUANTITY_INVALID);
         }
-        if (existingCart != null) {
-            existingCart.setQuantity(existingCart.getQuantity() + 1);
-            Cart updatedCart = cartRepository.save(existingCart);
-            return convertToCartDto(updatedCart);
-        } else {
-                Cart newCart = new Cart();
-                newCart.setEmail(email);
-                newCart.setOptionId(cartDto.getOptionId());
-                newCart.setQuantity(cartDto.getQuantity());
-                cartRepository.save(newCart);
-                return convertToCartDto(newCart);
+        // 없는 옵션이나 재고가 부족한 옵션은 담지 않는다. (재고 조회 캐시 사용, 최종 확인은 주문 시)
+        ProductOptionView option = stockView.get(cartDto.getOptionId());
+        if (option == null) {
+            throw new GlobalException(PRODUCT_DETAIL_NOT_FOUND);
+        }
+        if (Math.max(cartDto.getQuantity(), 1L) > option.getStock()) {
+            throw new GlobalException(OUT_OF_STOCK);
         }
+        Long quantity = cartStore.add(email, cartDto.getOptionId(), cartDto.getQuantity());
+        return new CartDto(cartDto.getOptionId(), quantity);
     }
 
-    @Transactional
     public CartDto updateCartItemQuantity(String email, Long optionId, CartDto dto) {
-        Cart target = cartRepository.findByEmailAndOptionId(email, optionId);
-        ProductDetail productDetail = productDetailRepository.findById(optionId)
-                .orElseThrow(() -> new GlobalException(PRODUCT_DETAIL_NOT_FOUND));
-        if (dto.getQuantity() > productDetail.getQuantity()) {
+        if (cartStore.find(email, optionId) == null) {
+            throw new GlobalException(CART_NOT_FOUND);
+        }
+        ProductOptionView option = stockView.get(optionId);
+        if (option == null) {
+            throw new GlobalException(PRODUCT_DETAIL_NOT_FOUND);
+        }
+        if (dto.getQuantity() > option.getStock()) {
             throw new GlobalException(OUT_OF_STOCK);
         }
-            target.setQuantity(dto.getQuantity());
-            cartRepository.save(target);
-            return dto;
+        cartStore.put(email, optionId, dto.getQuantity());
+        return dto;
     }
 
-    @Transactional
     public void deleteCartItemByEmailAndOptionId(String email, Long optionId) {
-        cartRepository.findByEmailAndOptionId(email, optionId);
-            cartRepository.deleteByEmailAndOptionId(email, optionId);
+        cartStore.remove(email, optionId);
     }
 
-    @Transactional
     public void deleteAllCartItems(String email) {
-            cartRepository.deleteAllByEmail(email);
+        cartStore.removeAll(email);
     }
 
-    @Transactional
+    // 로컬 장바구니를 서버 장바구니와 병합하고 병합된 전체 장바구니 반환
     public List<CartDto> sync(String email, List<CartDto> localCartItems) {
-        Map<Long, Cart> serverItemMap = cartRepository.findAllByEmail(email)
-                .orElseThrow(() -> new GlobalException(CART_NOT_FOUND))
-                .stream()
-                .collect(Collectors.toMap(Cart::getOptionId, Function.identity()));
-        // 로컬 카트 아이템을 순회하여 동기화
+        // 같은 옵션이 여러 번 오면 마지막 수량 사용
+        Map<Long, Long> localQuantities = new LinkedHashMap<>();
         for (CartDto localItem : localCartItems) {
-            Cart serverItem = serverItemMap.get(localItem.getOptionId());
-
-            if (serverItem != null) {
-                // 서버에 아이템이 존재하면 수량 동기화
-                serverItem.setQuantity(localItem.getQuantity());
-                cartRepository.save(serverItem);
-            } else {
-                // 서버에 없는 경우 새로 추가
-                Cart newCartItem = new Cart();
-                newCartItem.setEmail(email);
-                newCartItem.setOptionId(localItem.getOptionId());
-                newCartItem.setQuantity(localItem.getQuantity());
-                cartRepository.save(newCartItem);
+            if (localItem.getOptionId() == null || localItem.getQuantity() == null || localItem.getQuantity() < 0) {
+                throw new GlobalException(ErrorCode.CART_ITEM_QUANTITY_INVALID);
             }
+            localQuantities.put(localItem.getOptionId(), localItem.getQuantity());
         }
-        return localCartItems;
-    }
 
-    private CartDto convertToCartDto(Cart cart) {
-        CartDto cartDto = new CartDto();
-        cartDto.setOptionId(cart.getOptionId());
-        cartDto.setQuantity(cart.getQuantity());
-        return cartDto;
+        try {
+            return toCartDtos(merge(email, localQuantities));
+        } catch (DataIntegrityViolationException e) {
+            // 같은 사용자의 동기화가 동시에 실행되어 추가가 겹친 경우, 저장된 장바구니 기준으로 한 번 더 병합
+            log.warn("[장바구니 동기화 충돌]: {}", email);
+            return toCartDtos(merge(email, localQuantities));
+        }
     }
-}
 
+    // 메모리에서 추가/변경/삭제를 계산한 뒤 저장소에 한 번에 적용
+    private Map<Long, Long> merge(String email, Map<Long, Long> localQuantities) {
+        Map<Long, Long> merged = new TreeMap<>(cartStore.findAll(email));
+        Map<Long, Long> upserts = new TreeMap<>();
+        List<Long> removals = new ArrayList<>();
+
+        localQuantities.forEach((optionId, localQuantity) -> {
+            Long serverQuantity = merged.get(optionId);
+            long quantity = serverQuantity == null ? localQuantity : mergePolicy.merge(serverQuantity, localQuantity);
+
+            if (quantity <= 0) {
+                if (serverQuantity != null) {
+                    removals.add(optionId);
+                    merged.remove(optionId);
+                }
+            } else if (!Objects.equals(serverQuantity, quantity)) {
+                upserts.put(optionId, quantity);
+                merged.put(optionId, quantity);
+            }
+        });
+
+        cartStore.apply(email, upserts, removals);
+        return merged;
+    }
 
+    private List<CartDto> toCartDtos(Map<Long, Long> quantities) {
+        List<CartDto> cartDtos = new ArrayList<>(quantities.size());
+        quantities.forEach((optionId, quantity) -> cartDtos.add(new CartDto(optionId, quantity)));
+        return cartDtos;
+    }
+}
@@ -0,0 +1,72 @@
+package com.team5.pyeonjip.cart.service;
+
+import com.team5.pyeonjip.cart.dto.CartValidationItem;
+import com.team5.pyeonjip.cart.dto.CartValidationLine;
+import com.team5.pyeonjip.cart.dto.CartValidationResponse;
+import com.team5.pyeonjip.global.exception.ErrorCode;
+import com.team5.pyeonjip.global.exception.GlobalException;
+import com.team5.pyeonjip.product.dto.ProductOptionView;
+import com.team5.pyeonjip.product.service.StockView;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 장바구니 전체를 현재 재고/가격과 한 번에 비교.
+ * - 모든 옵션을 재고 조회 캐시(StockView)에서 한 번에 조회하고 항목별 구매 가능 여부와 가격 변경 여부를 반환한다.
+ * - 결제 전 한 번 확인하는 용도이며, 실제 재고 차감은 주문 시 다시 확인한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class CartValidationService {
+
+    private final StockView stockView;
+
+    public CartValidationResponse validate(List<CartValidationItem> items) {
+        if (items.isEmpty()) {
+            return new CartValidationResponse(true, false, List.of());
+        }
+
+        long[] optionIds = items.stream()
+                .mapToLong(item -> {
+                    if (item.getOptionId() == null || item.getQuantity() == null || item.getQuantity() <= 0) {
+                        throw new GlobalException(ErrorCode.CART_ITEM_QUANTITY_INVALID);
+                    }
+                    return item.getOptionId();
+                })
+                .sorted()
+                .distinct()
+                .toArray();
+
+        ProductOptionView[] views = stockView.lookup(optionIds);
+
+        boolean valid = true;
+        boolean priceChanged = false;
+        List<CartValidationLine> lines = new ArrayList<>(items.size());
+
+        for (CartValidationItem item : items) {
+            ProductOptionView view = views[Arrays.binarySearch(optionIds, item.getOptionId())];
+
+            CartValidationLine line;
+            if (view == null) {
+                line = new CartValidationLine(item.getOptionId(), item.getQuantity(), 0L, null,
+                        false, false, false);
+            } else {
+                long stock = view.getStock() != null ? view.getStock() : 0L;
+                line = new CartValidationLine(item.getOptionId(), item.getQuantity(), stock, view.getPrice(),
+                        true, stock >= item.getQuantity(),
+                        item.getPrice() != null && !Objects.equals(item.getPrice(), view.getPrice()));
+            }
+
+            valid &= line.isAvailable();
+            priceChanged |= line.isPriceChanged();
+            lines.add(line);
+        }
+
+        return new CartValidationResponse(valid, priceChanged, lines);
+    }
+}
@@ -0,0 +1,67 @@
+package com.team5.pyeonjip.cart.service;
+
+import com.team5.pyeonjip.cart.dto.CartDetailDto;
+import com.team5.pyeonjip.cart.dto.CartDto;
+import com.team5.pyeonjip.global.exception.ErrorCode;
+import com.team5.pyeonjip.global.exception.GlobalException;
+import com.team5.pyeonjip.product.dto.ProductOptionView;
+import com.team5.pyeonjip.product.service.StockView;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 장바구니 화면 데이터 조립.
+ * - 모든 옵션 id를 모아 옵션 + 상품 이름을 재고 조회 캐시(StockView)에서 한 번에 조회한다. (캐시에 없는 옵션만 IN 쿼리 1회)
+ * - 조회 결과는 정렬된 옵션 id 배열의 위치에 담아 이진 탐색으로 찾는다. (Long 박싱, 해시 맵 없음)
+ */
+@Component
+@RequiredArgsConstructor
+public class CartViewAssembler {
+
+    private final StockView stockView;
+
+    public List<CartDetailDto> assemble(List<CartDto> cartDtos) {
+        if (cartDtos.isEmpty()) {
+            return List.of();
+        }
+
+        long[] optionIds = cartDtos.stream()
+                .mapToLong(cartDto -> {
+                    if (cartDto.getOptionId() == null) {
+                        throw new GlobalException(ErrorCode.PRODUCT_DETAIL_NOT_FOUND);
+                    }
+                    return cartDto.getOptionId();
+                })
+                .sorted()
+                .distinct()
+                .toArray();
+
+        ProductOptionView[] views = stockView.lookup(optionIds);
+
+        List<CartDetailDto> cartDetails = new ArrayList<>(cartDtos.size());
+        for (CartDto cartDto : cartDtos) {
+            ProductOptionView view = views[Arrays.binarySearch(optionIds, cartDto.getOptionId())];
+            if (view == null) {
+                throw new GlobalException(ErrorCode.PRODUCT_DETAIL_NOT_FOUND);
+            }
+            cartDetails.add(toCartDetailDto(view, cartDto.getQuantity()));
+        }
+        return cartDetails;
+    }
+
+    private CartDetailDto toCartDetailDto(ProductOptionView view, Long quantity) {
+        CartDetailDto cartDetailDto = new CartDetailDto();
+        cartDetailDto.setOptionId(view.getOptionId());
+        cartDetailDto.setName(view.getProductName());
+        cartDetailDto.setOptionName(view.getOptionName());
+        cartDetailDto.setPrice(view.getPrice());
+        cartDetailDto.setQuantity(quantity);
+        cartDetailDto.setMaxQuantity(view.getStock());
+        cartDetailDto.setUrl(view.getMainImage());
+        return cartDetailDto;
+    }
+}
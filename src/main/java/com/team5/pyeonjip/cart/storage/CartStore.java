@@ -0,0 +1,33 @@
+package com.team5.pyeonjip.cart.storage;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * 사용자별 장바구니 저장소 (옵션 id -> 수량).
+ * - app.cart.store=jpa(기본)면 cart 테이블, redis면 사용자별 Redis 해시를 사용한다.
+ * - 반환하는 맵은 옵션 id 오름차순이다.
+ */
+public interface CartStore {
+
+    // 사용자의 장바구니 전체 (없으면 빈 맵)
+    Map<Long, Long> findAll(String email);
+
+    // 옵션 수량 (없으면 null)
+    Long find(String email, Long optionId);
+
+    // 없으면 quantity로 추가, 있으면 수량 1 증가 후 현재 수량 반환
+    Long add(String email, Long optionId, Long quantity);
+
+    void put(String email, Long optionId, Long quantity);
+
+    // 수량 변경/추가와 삭제를 한 번에 적용
+    void apply(String email, Map<Long, Long> upserts, Collection<Long> removals);
+
+    void remove(String email, Long optionId);
+
+    void removeAll(String email);
+
+    // 옵션 삭제 시 모든 사용자의 장바구니에서 제거
+    void removeOption(Long optionId);
+}
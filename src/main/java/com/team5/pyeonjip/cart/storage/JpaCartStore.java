@@ -0,0 +1,105 @@
+package com.team5.pyeonjip.cart.storage;
+
+import com.team5.pyeonjip.cart.entity.Cart;
+import com.team5.pyeonjip.cart.repository.CartRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// cart 테이블 저장소 (기본)
+@Component
+@ConditionalOnProperty(name = "app.cart.store", havingValue = "jpa", matchIfMissing = true)
+@RequiredArgsConstructor
+public class JpaCartStore implements CartStore {
+
+    private final CartRepository cartRepository;
+
+    @Override
+    public Map<Long, Long> findAll(String email) {
+        return cartRepository.findAllByEmail(email).stream()
+                .collect(Collectors.toMap(Cart::getOptionId, Cart::getQuantity, (first, second) -> first, TreeMap::new));
+    }
+
+    @Override
+    public Long find(String email, Long optionId) {
+        Cart cart = cartRepository.findByEmailAndOptionId(email, optionId);
+        return cart != null ? cart.getQuantity() : null;
+    }
+
+    @Override
+    @Transactional
+    public Long add(String email, Long optionId, Long quantity) {
+        Cart existingCart = cartRepository.findByEmailAndOptionId(email, optionId);
+        if (existingCart != null) {
+            existingCart.setQuantity(existingCart.getQuantity() + 1);
+            return cartRepository.save(existingCart).getQuantity();
+        }
+
+        cartRepository.save(new Cart(email, optionId, quantity));
+        return quantity;
+    }
+
+    @Override
+    @Transactional
+    public void put(String email, Long optionId, Long quantity) {
+        Cart cart = cartRepository.findByEmailAndOptionId(email, optionId);
+        if (cart == null) {
+            cart = new Cart(email, optionId, quantity);
+        }
+        cart.setQuantity(quantity);
+        cartRepository.save(cart);
+    }
+
+    @Override
+    @Transactional
+    public void apply(String email, Map<Long, Long> upserts, Collection<Long> removals) {
+        if (!removals.isEmpty()) {
+            cartRepository.deleteByEmailAndOptionIdIn(email, removals);
+        }
+        if (upserts.isEmpty()) {
+            return;
+        }
+
+        // 변경, 추가된 행은 JDBC 배치로 한 번에 전송
+        Map<Long, Cart> existing = cartRepository.findAllByEmail(email).stream()
+                .collect(Collectors.toMap(Cart::getOptionId, Function.identity(), (first, second) -> first));
+
+        List<Cart> carts = new ArrayList<>(upserts.size());
+        upserts.forEach((optionId, quantity) -> {
+            Cart cart = existing.get(optionId);
+            if (cart == null) {
+                cart = new Cart(email, optionId, quantity);
+            }
+            cart.setQuantity(quantity);
+            carts.add(cart);
+        });
+        cartRepository.saveAll(carts);
+    }
+
+    @Override
+    @Transactional
+    public void remove(String email, Long optionId) {
+        cartRepository.deleteByEmailAndOptionId(email, optionId);
+    }
+
+    @Override
+    @Transactional
+    public void removeAll(String email) {
+        cartRepository.deleteAllByEmail(email);
+    }
+
+    @Override
+    @Transactional
+    public void removeOption(Long optionId) {
+        cartRepository.deleteByOptionId(optionId);
+    }
+}
@@ -0,0 +1,319 @@
+package com.team5.pyeonjip.cart.storage;
+
+import com.team5.pyeonjip.cart.entity.Cart;
+import com.team5.pyeonjip.cart.repository.CartRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.BatchResult;
+import org.redisson.api.RBatch;
+import org.redisson.api.RMap;
+import org.redisson.api.RMapAsync;
+import org.redisson.api.RScript;
+import org.redisson.api.RSet;
+import org.redisson.api.RSetAsync;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.Codec;
+import org.redisson.client.codec.LongCodec;
+import org.redisson.client.codec.StringCodec;
+import org.redisson.codec.CompositeCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Redis 장바구니 저장소 (app.cart.store=redis).
+ * - 사용자별 해시 cart:{email} (옵션 id -> 수량)에 저장하고, 변경은 배치 한 번으로 전송한다.
+ * - 옵션 삭제를 위해 옵션별 사용자 집합 cart:option:{optionId}를 함께 관리한다.
+ *   항목을 지우면 집합에서도 빼고, 집합도 장바구니와 같은 만료 시간을 두어 만료된 장바구니의 사용자가 계속 쌓이지 않게 한다.
+ * - write-behind 사용 시 변경된 사용자를 cart:dirty에 기록하고, 별도 스레드가 주기적으로 cart 테이블에 반영한다.
+ *   Redis에 장바구니가 없고 반영 대기 중도 아니면 cart 테이블에서 다시 읽어온다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.cart.store", havingValue = "redis")
+public class RedisCartStore implements CartStore {
+
+    private static final String CART_KEY = "cart:";
+    private static final String OPTION_KEY = "cart:option:";
+    private static final String DIRTY_KEY = "cart:dirty";
+
+    // 이메일 -> 변경 횟수 (반영 중 다시 바뀌었는지 확인용)
+    private static final Codec DIRTY_CODEC = new CompositeCodec(StringCodec.INSTANCE, LongCodec.INSTANCE);
+
+    // 없으면 quantity로 추가, 있으면 1 증가
+    private static final String ADD_SCRIPT =
+            "if redis.call('hsetnx', KEYS[1], ARGV[1], ARGV[2]) == 1 then return tonumber(ARGV[2]) end " +
+            "return redis.call('hincrby', KEYS[1], ARGV[1], 1)";
+
+    private final RedissonClient redissonClient;
+    private final CartRepository cartRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Duration ttl;
+    private final boolean writeBehind;
+    private final long flushIntervalMs;
+    private final int flushBatchSize;
+
+    private volatile boolean running;
+    private Thread flushThread;
+
+    public RedisCartStore(RedissonClient redissonClient,
+                          CartRepository cartRepository,
+                          TransactionTemplate transactionTemplate,
+                          @Value("${app.cart.redis.ttl-days:30}") long ttlDays,
+                          @Value("${app.cart.write-behind.enabled:false}") boolean writeBehind,
+                          @Value("${app.cart.write-behind.flush-interval-ms:1000}") long flushIntervalMs,
+                          @Value("${app.cart.write-behind.batch-size:100}") int flushBatchSize) {
+        this.redissonClient = redissonClient;
+        this.cartRepository = cartRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.ttl = Duration.ofDays(ttlDays);
+        this.writeBehind = writeBehind;
+        this.flushIntervalMs = flushIntervalMs;
+        this.flushBatchSize = flushBatchSize;
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!writeBehind) {
+            return;
+        }
+
+        running = true;
+        flushThread = new Thread(this::runFlushLoop, "cart-write-behind");
+        flushThread.setDaemon(true);
+        flushThread.start();
+    }
+
+    @Override
+    public Map<Long, Long> findAll(String email) {
+        RMap<Long, Long> cart = cart(email);
+        loadIfAbsent(email, cart);
+        return new TreeMap<>(cart.readAllMap());
+    }
+
+    @Override
+    public Long find(String email, Long optionId) {
+        RMap<Long, Long> cart = cart(email);
+        loadIfAbsent(email, cart);
+        return cart.get(optionId);
+    }
+
+    @Override
+    public Long add(String email, Long optionId, Long quantity) {
+        loadIfAbsent(email, cart(email));
+
+        RBatch batch = redissonClient.createBatch();
+        batch.getScript(LongCodec.INSTANCE).evalAsync(RScript.Mode.READ_WRITE, ADD_SCRIPT, RScript.ReturnType.INTEGER,
+                List.<Object>of(CART_KEY + email), optionId, quantity);
+        touch(batch, email, List.of(optionId));
+
+        BatchResult<?> result = batch.execute();
+        return (Long) result.getResponses().getFirst();
+    }
+
+    @Override
+    public void put(String email, Long optionId, Long quantity) {
+        apply(email, Map.of(optionId, quantity), List.of());
+    }
+
+    @Override
+    public void apply(String email, Map<Long, Long> upserts, Collection<Long> removals) {
+        if (upserts.isEmpty() && removals.isEmpty()) {
+            return;
+        }
+        loadIfAbsent(email, cart(email));
+
+        RBatch batch = redissonClient.createBatch();
+        RMapAsync<Long, Long> cart = batch.getMap(CART_KEY + email, LongCodec.INSTANCE);
+        if (!removals.isEmpty()) {
+            cart.fastRemoveAsync(removals.toArray(Long[]::new));
+            untrack(batch, email, removals);
+        }
+        if (!upserts.isEmpty()) {
+            cart.putAllAsync(upserts);
+        }
+        touch(batch, email, upserts.keySet());
+        batch.execute();
+    }
+
+    @Override
+    public void remove(String email, Long optionId) {
+        loadIfAbsent(email, cart(email));
+
+        RBatch batch = redissonClient.createBatch();
+        batch.getMap(CART_KEY + email, LongCodec.INSTANCE).fastRemoveAsync(optionId);
+        untrack(batch, email, List.of(optionId));
+        markDirty(batch, email);
+        batch.execute();
+    }
+
+    @Override
+    public void removeAll(String email) {
+        Collection<Long> optionIds = cart(email).readAllKeySet();
+
+        RBatch batch = redissonClient.createBatch();
+        batch.getMap(CART_KEY + email, LongCodec.INSTANCE).deleteAsync();
+        untrack(batch, email, optionIds);
+        markDirty(batch, email);
+        batch.execute();
+    }
+
+    @Override
+    public void removeOption(Long optionId) {
+        RSet<String> emails = redissonClient.getSet(OPTION_KEY + optionId, StringCodec.INSTANCE);
+        List<String> members = new ArrayList<>(emails.readAll());
+
+        // 만료된 장바구니는 건너뛴다. (반영 대상으로 기록하면 빈 장바구니로 cart 테이블을 덮어씀)
+        RBatch check = redissonClient.createBatch();
+        for (String email : members) {
+            check.getMap(CART_KEY + email, LongCodec.INSTANCE).isExistsAsync();
+        }
+        List<?> exists = members.isEmpty() ? List.of() : check.execute().getResponses();
+
+        RBatch batch = redissonClient.createBatch();
+        for (int i = 0; i < members.size(); i++) {
+            if (Boolean.TRUE.equals(exists.get(i))) {
+                batch.getMap(CART_KEY + members.get(i), LongCodec.INSTANCE).fastRemoveAsync(optionId);
+                markDirty(batch, members.get(i));
+            }
+        }
+        batch.getSet(OPTION_KEY + optionId, StringCodec.INSTANCE).deleteAsync();
+        batch.execute();
+
+        // Redis에서 만료되어 cart 테이블에만 남은 장바구니에서도 삭제 (다시 읽어올 때 되살아나지 않도록)
+        if (writeBehind) {
+            cartRepository.deleteByOptionId(optionId);
+        }
+    }
+
+    // 변경된 장바구니의 만료 시간 갱신, 옵션별 사용자 집합과 반영 대기 목록에 기록
+    private void touch(RBatch batch, String email, Iterable<Long> optionIds) {
+        batch.getMap(CART_KEY + email, LongCodec.INSTANCE).expireAsync(ttl);
+        for (Long optionId : optionIds) {
+            track(batch, email, optionId);
+        }
+        markDirty(batch, email);
+    }
+
+    // 옵션별 사용자 집합에 추가 (집합은 마지막으로 담긴 장바구니와 함께 만료)
+    private void track(RBatch batch, String email, Long optionId) {
+        RSetAsync<String> emails = batch.getSet(OPTION_KEY + optionId, StringCodec.INSTANCE);
+        emails.addAsync(email);
+        emails.expireAsync(ttl);
+    }
+
+    private void untrack(RBatch batch, String email, Collection<Long> optionIds) {
+        for (Long optionId : optionIds) {
+            batch.getSet(OPTION_KEY + optionId, StringCodec.INSTANCE).removeAsync(email);
+        }
+    }
+
+    private void markDirty(RBatch batch, String email) {
+        if (writeBehind) {
+            batch.<String, Long>getMap(DIRTY_KEY, DIRTY_CODEC).addAndGetAsync(email, 1L);
+        }
+    }
+
+    // Redis에 없고 반영 대기 중도 아니면 cart 테이블이 최신이므로 다시 읽어온다.
+    private void loadIfAbsent(String email, RMap<Long, Long> cart) {
+        if (!writeBehind || cart.isExists() || dirty().containsKey(email)) {
+            return;
+        }
+
+        List<Cart> rows = cartRepository.findAllByEmail(email);
+        if (rows.isEmpty()) {
+            return;
+        }
+
+        // 동시에 들어온 변경을 덮어쓰지 않도록 없는 항목만 채운다.
+        RBatch batch = redissonClient.createBatch();
+        RMapAsync<Long, Long> target = batch.getMap(CART_KEY + email, LongCodec.INSTANCE);
+        for (Cart row : rows) {
+            target.fastPutIfAbsentAsync(row.getOptionId(), row.getQuantity());
+            track(batch, email, row.getOptionId());
+        }
+        target.expireAsync(ttl);
+        batch.execute();
+    }
+
+    private void runFlushLoop() {
+        while (running) {
+            try {
+                TimeUnit.MILLISECONDS.sleep(flushIntervalMs);
+                flushDirty(flushBatchSize);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.warn("[장바구니 반영 실패]", e);
+            }
+        }
+    }
+
+    // 반영 대기 중인 사용자 최대 limit명을 cart 테이블에 반영, 반영한 수 반환
+    private int flushDirty(int limit) {
+        RMap<String, Long> dirty = dirty();
+
+        Map<String, Long> targets = new TreeMap<>();
+        Iterator<Map.Entry<String, Long>> iterator = dirty.entrySet(limit).iterator();
+        while (iterator.hasNext() && targets.size() < limit) {
+            Map.Entry<String, Long> entry = iterator.next();
+            targets.put(entry.getKey(), entry.getValue());
+        }
+
+        targets.forEach((email, version) -> {
+            try {
+                Map<Long, Long> items = cart(email).readAllMap();
+                transactionTemplate.executeWithoutResult(status -> {
+                    cartRepository.deleteAllByEmail(email);
+
+                    List<Cart> carts = new ArrayList<>(items.size());
+                    items.forEach((optionId, quantity) -> carts.add(new Cart(email, optionId, quantity)));
+                    cartRepository.saveAll(carts);
+                });
+
+                // 반영하는 동안 다시 바뀌었다면 남겨두고 다음 주기에 반영
+                dirty.remove(email, version);
+            } catch (Exception e) {
+                log.error("[장바구니 반영 실패]: {}", email, e);
+            }
+        });
+        return targets.size();
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        if (!running) {
+            return;
+        }
+
+        running = false;
+        flushThread.interrupt();
+        flushThread.join(TimeUnit.SECONDS.toMillis(10));
+
+        // 남은 변경 반영 (실패가 반복되는 항목에 막히지 않도록 횟수 제한)
+        for (int round = 0; round < 100 && flushDirty(flushBatchSize) > 0; round++) {
+            log.debug("[장바구니 반영]: 종료 전 {}회차", round + 1);
+        }
+    }
+
+    private RMap<Long, Long> cart(String email) {
+        return redissonClient.getMap(CART_KEY + email, LongCodec.INSTANCE);
+    }
+
+    private RMap<String, Long> dirty() {
+        return redissonClient.getMap(DIRTY_KEY, DIRTY_CODEC);
+    }
+}
@@ -1,6 +1,7 @@
 package com.team5.pyeonjip.category.controller;
 
 import com.team5.pyeonjip.category.dto.CategoryCreateRequest;
+import com.team5.pyeonjip.category.dto.CategoryOrderRequest;
 import com.team5.pyeonjip.category.dto.CategoryRequest;
 import com.team5.pyeonjip.category.dto.CategoryResponse;
 import com.team5.pyeonjip.category.service.CategoryService;
@@ -43,6 +44,15 @@ public class AdminCategoryController {
                 .body(categoryService.createCategory(request));
     }
 
+    // 드래그 앤 드롭 결과 등 형제 카테고리 순서 일괄 반영
+    @PutMapping("/order")
+    public ResponseEntity<Map<String, String>> reorderCategories(@RequestBody CategoryOrderRequest request) {
+
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .body(categoryService.reorderCategories(request));
+    }
+
     @DeleteMapping
     public ResponseEntity<Map<String, String>> deleteCategories(@RequestParam(required = false) List<Long> categoryIds) {
 
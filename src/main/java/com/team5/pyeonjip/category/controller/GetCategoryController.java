@@ -1,5 +1,6 @@
 package com.team5.pyeonjip.category.controller;
 
+import com.team5.pyeonjip.category.dto.CategoryMenuResponse;
 import com.team5.pyeonjip.category.service.CategoryService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -37,4 +38,13 @@ public class GetCategoryController {
                 .body(categories);
     }
 
+    // 카테고리 트리 + 카테고리별 상품 수 (하위 카테고리 합계 포함)
+    @GetMapping("/menu")
+    public ResponseEntity<List<CategoryMenuResponse>> getCategoryMenu() {
+
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .body(categoryService.getCategoryMenu());
+    }
+
 }
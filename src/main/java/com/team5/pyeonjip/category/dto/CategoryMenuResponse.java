@@ -0,0 +1,35 @@
+package com.team5.pyeonjip.category.dto;
+
+import lombok.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// 상품 수가 포함된 카테고리 메뉴
+@Getter
+@ToString
+@Builder(toBuilder = true)
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CategoryMenuResponse {
+
+    private Long id;
+
+    private String name;
+
+    private Integer sort;
+
+    private Long parentId;
+
+    // 해당 카테고리에 직접 속한 상품 수
+    private long productCount;
+
+    private long inStockProductCount;
+
+    // 하위 카테고리를 포함한 상품 수
+    private long totalProductCount;
+
+    private long totalInStockProductCount;
+
+    private List<CategoryMenuResponse> children = new ArrayList<>();
+}
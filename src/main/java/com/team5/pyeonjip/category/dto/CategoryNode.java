@@ -0,0 +1,5 @@
+package com.team5.pyeonjip.category.dto;
+
+// 카테고리 트리 구성용 조회 결과 (children 연관관계 로딩 없이 필요한 컬럼만 조회)
+public record CategoryNode(Long id, String name, Integer sort, Long parentId) {
+}
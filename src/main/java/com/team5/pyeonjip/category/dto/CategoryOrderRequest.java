@@ -0,0 +1,16 @@
+package com.team5.pyeonjip.category.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@ToString
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CategoryOrderRequest {
+
+    private Long parentId; // 최상위 카테고리 순서 변경은 null
+
+    private List<Long> categoryIds; // 변경할 순서대로 나열한 형제 카테고리 id
+}
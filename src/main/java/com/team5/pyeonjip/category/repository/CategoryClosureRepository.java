@@ -0,0 +1,63 @@
+package com.team5.pyeonjip.category.repository;
+
+import com.team5.pyeonjip.category.entity.CategoryClosure;
+import com.team5.pyeonjip.category.entity.CategoryClosureId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface CategoryClosureRepository extends JpaRepository<CategoryClosure, CategoryClosureId> {
+
+    boolean existsByAncestorIdAndDescendantId(Long ancestorId, Long descendantId);
+
+    // 새 카테고리: 본인 + 부모의 모든 조상과 연결
+    @Modifying
+    @Query(value = """
+    INSERT INTO category_closure (ancestor_id, descendant_id, depth)
+    SELECT ancestor_id, :id, depth + 1
+    FROM category_closure
+    WHERE descendant_id = :parentId
+    UNION ALL
+    SELECT :id, :id, 0
+    """, nativeQuery = true)
+    void insertNode(@Param("id") Long id, @Param("parentId") Long parentId);
+
+    // 서브트리 이동 1단계: 서브트리 밖의 조상과 서브트리 노드 사이의 연결 삭제
+    @Modifying
+    @Query(value = """
+    DELETE link
+    FROM category_closure link
+    JOIN category_closure sub ON sub.descendant_id = link.descendant_id
+    LEFT JOIN category_closure inner_link
+        ON inner_link.ancestor_id = :id AND inner_link.descendant_id = link.ancestor_id
+    WHERE sub.ancestor_id = :id
+      AND inner_link.ancestor_id IS NULL
+    """, nativeQuery = true)
+    void detachSubtree(@Param("id") Long id);
+
+    // 서브트리 이동 2단계: 새 부모의 모든 조상과 서브트리 노드 연결
+    @Modifying
+    @Query(value = """
+    INSERT INTO category_closure (ancestor_id, descendant_id, depth)
+    SELECT super.ancestor_id, sub.descendant_id, super.depth + sub.depth + 1
+    FROM category_closure super
+    JOIN category_closure sub ON sub.ancestor_id = :id
+    WHERE super.descendant_id = :parentId
+    """, nativeQuery = true)
+    void attachSubtree(@Param("id") Long id, @Param("parentId") Long parentId);
+
+    // 카테고리들과 모든 하위 카테고리 id
+    @Query("SELECT DISTINCT cc.descendantId FROM CategoryClosure cc WHERE cc.ancestorId IN :ids")
+    List<Long> findSubtreeIds(@Param("ids") Collection<Long> ids);
+
+    // 서브트리 단위로 삭제하므로 자손 기준 삭제만으로 관련 연결이 모두 지워진다.
+    @Modifying
+    @Query("DELETE FROM CategoryClosure cc WHERE cc.descendantId IN :ids")
+    int deleteByDescendantIds(@Param("ids") Collection<Long> ids);
+}
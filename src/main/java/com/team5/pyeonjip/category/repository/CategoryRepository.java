@@ -1,5 +1,6 @@
 package com.team5.pyeonjip.category.repository;
 
+import com.team5.pyeonjip.category.dto.CategoryNode;
 import com.team5.pyeonjip.category.entity.Category;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -9,6 +10,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -32,39 +34,62 @@ public interface CategoryRepository extends JpaRepository<Category, Long> {
     @EntityGraph(attributePaths = {"children"})
     List<Category> findByChildrenIsEmpty();
 
+    // 트리 스냅샷 구성용 (children 로딩 없이 필요한 컬럼만 조회)
+    @Query("SELECT new com.team5.pyeonjip.category.dto.CategoryNode(c.id, c.name, c.sort, c.parentId) FROM Category c")
+    List<CategoryNode> findAllNodes();
+
     // parentId가 null인 데이터들 중 sort 번호가 가장 높은 카테고리 조회
     @Query("SELECT MAX(c.sort) FROM Category c WHERE c.parentId IS NULL")
     Integer findMaxSortForRootCategories();
 
     Boolean existsByName(String name);
 
-    // 네이티브 쿼리 적용
-    // Leaf (최하위 카테고리) 만을 찾아야 함) -> 나무의 나뭇잎 생각하면 편함
+    // 같은 부모의 형제 중 sort가 [from, to] 범위인 카테고리를 delta만큼 이동 (최상위는 parentId null)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Category c SET c.sort = c.sort + :delta " +
+            "WHERE ((:parentId IS NULL AND c.parentId IS NULL) OR c.parentId = :parentId) " +
+            "AND c.sort BETWEEN :from AND :to")
+    int shiftSort(@Param("parentId") Long parentId,
+                  @Param("from") Integer from,
+                  @Param("to") Integer to,
+                  @Param("delta") int delta);
+
+    // 삭제 대상의 부모 id (최상위는 null)
+    @Query("SELECT DISTINCT c.parentId FROM Category c WHERE c.id IN :ids")
+    List<Long> findParentIds(@Param("ids") Collection<Long> ids);
+
+    long countByIdIn(Collection<Long> ids);
+
+    // 형제 카테고리 sort를 1부터 빈틈없이 다시 매김 (한 문장, parent_id <=> 로 최상위도 처리)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
     @Query(value = """
-    WITH RECURSIVE CategoryTree AS (
-        -- 시작 카테고리를 선택 (주어진 ID)
-        SELECT id, name, parent_id, sort
+    UPDATE category c
+    JOIN (
+        SELECT id, ROW_NUMBER() OVER (ORDER BY sort, id) AS new_sort
         FROM category
-        WHERE id = :parentId
-
-        -- SELECT 쿼리 결과 결합
-        UNION ALL
-
-        -- 재귀적으로 자식 카테고리를 찾기
-        -- LEFT JOIN 으로 Leaf 필터링
-        SELECT c.id, c.name, c.parent_id, c.sort
-        FROM category c
-        -- CategoryTree : 중간 결과를 저장하기 위한 임시 가상 테이블
-        JOIN CategoryTree ct ON c.parent_id = ct.id
-    )
-    -- 최종 SELECT : Leaf 카테고리만 필터링
-    SELECT ct.id
-    FROM CategoryTree ct
-        -- LEFT JOIN 사용하여 Category 테이블과 다시 조인
-        -- 대신 LEAF 카테고리만 선택 
-    LEFT JOIN category c ON ct.id = c.parent_id
-    WHERE c.id IS NULL
-    ORDER BY ct.sort ASC
+        WHERE parent_id <=> :parentId
+    ) ordered ON ordered.id = c.id
+    SET c.sort = ordered.new_sort
+    """, nativeQuery = true)
+    int resortSiblings(@Param("parentId") Long parentId);
+
+    // 형제 카테고리 id 목록
+    @Query("SELECT c.id FROM Category c WHERE (:parentId IS NULL AND c.parentId IS NULL) OR c.parentId = :parentId")
+    List<Long> findIdsByParentId(@Param("parentId") Long parentId);
+
+    // 전달한 id 순서대로 sort를 1부터 다시 매김 (한 문장)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "UPDATE category SET sort = FIELD(id, :ids) WHERE id IN (:ids)", nativeQuery = true)
+    int applyOrder(@Param("ids") List<Long> ids);
+
+    // Leaf (최하위 카테고리) 조회 - 클로저 테이블로 서브트리를 한 번에 조회하므로 트리 깊이와 무관
+    @Query(value = """
+    SELECT c.id
+    FROM category_closure cc
+    JOIN category c ON c.id = cc.descendant_id
+    WHERE cc.ancestor_id = :parentId
+      AND NOT EXISTS (SELECT 1 FROM category child WHERE child.parent_id = c.id)
+    ORDER BY c.sort ASC
     """, nativeQuery = true)
     List<Long> findLeafCategories(@Param("parentId") Long parentId);
 
@@ -0,0 +1,62 @@
+package com.team5.pyeonjip.category.service;
+
+import com.team5.pyeonjip.category.repository.CategoryClosureRepository;
+import com.team5.pyeonjip.global.exception.ErrorCode;
+import com.team5.pyeonjip.global.exception.GlobalException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * 카테고리 클로저 테이블 관리.
+ * - 카테고리 생성/이동/삭제와 같은 트랜잭션에서 갱신하며, 트리 깊이와 관계없이 고정된 개수의 쿼리로 처리한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class CategoryClosureService {
+
+    private final CategoryClosureRepository categoryClosureRepository;
+
+    // 카테고리 생성
+    @Transactional
+    public void addCategory(Long id, Long parentId) {
+        categoryClosureRepository.insertNode(id, parentId);
+    }
+
+    // 이동하려는 부모가 본인의 하위 카테고리인지 검사 (순환 방지)
+    @Transactional(readOnly = true)
+    public void validateMove(Long id, Long newParentId) {
+        if (newParentId != null && categoryClosureRepository.existsByAncestorIdAndDescendantId(id, newParentId)) {
+            throw new GlobalException(ErrorCode.INVALID_PARENT_DESCENDANT);
+        }
+    }
+
+    // 카테고리 이동 (하위 카테고리 포함)
+    @Transactional
+    public void moveCategory(Long id, Long newParentId) {
+        validateMove(id, newParentId);
+
+        categoryClosureRepository.detachSubtree(id);
+        if (newParentId != null) {
+            categoryClosureRepository.attachSubtree(id, newParentId);
+        }
+    }
+
+    // 카테고리들과 모든 하위 카테고리 id (클로저 누락에 대비해 요청 id도 포함)
+    @Transactional(readOnly = true)
+    public Set<Long> findSubtreeIds(Collection<Long> ids) {
+        Set<Long> subtreeIds = new HashSet<>(ids);
+        subtreeIds.addAll(categoryClosureRepository.findSubtreeIds(ids));
+        return subtreeIds;
+    }
+
+    // 서브트리 삭제
+    @Transactional
+    public void deleteSubtrees(Collection<Long> subtreeIds) {
+        categoryClosureRepository.deleteByDescendantIds(subtreeIds);
+    }
+}
@@ -1,6 +1,8 @@
 package com.team5.pyeonjip.category.service;
 
 import com.team5.pyeonjip.category.dto.CategoryCreateRequest;
+import com.team5.pyeonjip.category.dto.CategoryMenuResponse;
+import com.team5.pyeonjip.category.dto.CategoryOrderRequest;
 import com.team5.pyeonjip.category.dto.CategoryRequest;
 import com.team5.pyeonjip.category.dto.CategoryResponse;
 
@@ -20,6 +22,12 @@ public interface CategoryService {
 
     Map<String, String> deleteCategories(List<Long> ids);
 
+    // 형제 카테고리 순서 일괄 변경
+    Map<String, String> reorderCategories(CategoryOrderRequest request);
+
     // 상품 수정 시 카테고리 옵션에서 조회
     List<CategoryResponse> getChildrenCategories();
+
+    // 카테고리 트리와 카테고리별 상품 수 조회
+    List<CategoryMenuResponse> getCategoryMenu();
 }
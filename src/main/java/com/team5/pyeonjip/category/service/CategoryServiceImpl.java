@@ -1,21 +1,31 @@
 package com.team5.pyeonjip.category.service;
 
 import com.team5.pyeonjip.category.dto.CategoryCreateRequest;
+import com.team5.pyeonjip.category.dto.CategoryMenuResponse;
+import com.team5.pyeonjip.category.dto.CategoryOrderRequest;
 import com.team5.pyeonjip.category.dto.CategoryRequest;
 import com.team5.pyeonjip.category.dto.CategoryResponse;
 import com.team5.pyeonjip.category.entity.Category;
 import com.team5.pyeonjip.category.mapper.CategoryMapper;
 import com.team5.pyeonjip.category.repository.CategoryRepository;
+import com.team5.pyeonjip.category.utils.CategoryStatistics;
+import com.team5.pyeonjip.category.utils.CategoryTreeCache;
+import com.team5.pyeonjip.category.utils.CategoryTreeSnapshot;
 import com.team5.pyeonjip.category.utils.CategoryUtils;
 import com.team5.pyeonjip.category.utils.CategoryValidate;
+import com.team5.pyeonjip.global.cache.CatalogVersionRegistry;
+import com.team5.pyeonjip.global.exception.ErrorCode;
+import com.team5.pyeonjip.global.exception.GlobalException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
@@ -25,56 +35,67 @@ public class CategoryServiceImpl implements CategoryService {
     private final CategoryMapper categoryMapper;
     private final CategoryUtils categoryUtils;
     private final CategoryValidate categoryValidate;
+    private final CatalogVersionRegistry catalogVersionRegistry;
+    private final CategoryTreeCache categoryTreeCache;
+    private final CategoryClosureService categoryClosureService;
+    private final CategoryStatistics categoryStatistics;
 
-    @Transactional(readOnly = true)
+    // 조회는 모두 트리 스냅샷에서 처리 (SQL 없음)
     public List<CategoryResponse> getCategories(List<Long> ids) {
 
+        CategoryTreeSnapshot snapshot = categoryTreeCache.get();
+
         // id 리스트가 없으면 전체 조회, 있으면 부분 조회
         if (ids == null || ids.isEmpty()) {
 
-            List<Category> allCategories = categoryRepository.findAll();
-            List<Category> parentCategories = categoryUtils.getParentCategories(allCategories);
-
-            List<Category> resultCategories = categoryUtils.createChildrenCategories(parentCategories, allCategories);
-
-            return resultCategories.stream()
-                    .map(categoryMapper::toResponse)
-                    .toList();
+            return snapshot.getRootResponses();
 
         } else {
 
-            List<Category> categories = categoryValidate.validateAndFindCategory(ids);
-
-            return categories.stream()
-                    .map(categoryMapper::toResponse)
+            return ids.stream()
+                    .map(id -> {
+                        CategoryResponse response = snapshot.getResponse(id);
+                        if (response == null) {
+                            throw new GlobalException(ErrorCode.CATEGORY_NOT_FOUND);
+                        }
+                        return response;
+                    })
                     .toList();
         }
     }
 
-    @Transactional(readOnly = true)
     public List<Long> getLeafCategoryIds(Long parentId) {
 
-        categoryValidate.validateAndFindCategory(parentId);
+        CategoryTreeSnapshot snapshot = categoryTreeCache.get();
+
+        if (!snapshot.contains(parentId)) {
+            throw new GlobalException(ErrorCode.CATEGORY_NOT_FOUND);
+        }
 
-        return categoryRepository.findLeafCategories(parentId);
+        return snapshot.getLeafIds(parentId);
     }
 
-    @Transactional(readOnly = true)
     public List<CategoryResponse> getChildrenCategories() {
 
-        List<Category> children = categoryRepository.findByChildrenIsEmpty();
-        return children.stream()
-                .map(categoryMapper::toResponse)
-                .toList();
+        return categoryTreeCache.get().getLeafResponses();
+    }
+
+    public List<CategoryMenuResponse> getCategoryMenu() {
+
+        return categoryStatistics.getMenu(categoryTreeCache.get());
     }
 
     @Transactional
     public CategoryResponse updateCategory(Long id, CategoryRequest request) {
 
         Category old = categoryValidate.validateAndFindCategory(id);
+        Long oldParentId = old.getParentId();
+        Integer oldSort = old.getSort();
+        boolean parentChanged = !Objects.equals(request.getParentId(), old.getParentId());
 
-        if (!Objects.equals(request.getParentId(), old.getParentId())) {
+        if (parentChanged) {
             categoryValidate.validateParent(request);
+            categoryClosureService.validateMove(id, request.getParentId());
             old = old.toBuilder().parentId(request.getParentId() != null ? request.getParentId() : null).build();
         }
 
@@ -84,10 +105,16 @@ public class CategoryServiceImpl implements CategoryService {
         }
 
         if (!Objects.equals(request.getSort(), old.getSort())) {
-            categoryUtils.updateSiblingSort(old, request);
+            categoryUtils.updateSiblingSort(oldParentId, oldSort, request.getParentId(), request.getSort());
             old = old.toBuilder().sort(request.getSort() != null ? request.getSort() : old.getSort()).build();
         }
 
+        if (parentChanged) {
+            categoryClosureService.moveCategory(id, old.getParentId());
+        }
+
+        catalogVersionRegistry.categoryChanged();
+        categoryTreeCache.invalidate();
         return categoryMapper.toResponse(categoryRepository.save(old));
     }
 
@@ -102,7 +129,12 @@ public class CategoryServiceImpl implements CategoryService {
 
         System.out.println(category);
 
-        return categoryMapper.toResponse(categoryRepository.save(category));
+        Category savedCategory = categoryRepository.save(category);
+        categoryClosureService.addCategory(savedCategory.getId(), savedCategory.getParentId());
+
+        catalogVersionRegistry.categoryChanged();
+        categoryTreeCache.invalidate();
+        return categoryMapper.toResponse(savedCategory);
     }
 
     @Transactional
@@ -117,11 +149,22 @@ public class CategoryServiceImpl implements CategoryService {
 
         } else {
 
-            List<Category> categories = categoryValidate.validateAndFindCategory(ids);
+            List<Long> distinctIds = ids.stream().distinct().toList();
+            if (categoryRepository.countByIdIn(distinctIds) != distinctIds.size()) {
+                throw new GlobalException(ErrorCode.CATEGORY_NOT_FOUND);
+            }
 
-            categoryUtils.updateSiblingsSort(categories);
+            // 하위 카테고리까지 함께 삭제
+            Set<Long> subtreeIds = categoryClosureService.findSubtreeIds(distinctIds);
 
-            categoryUtils.deleteCategoriesAndUpdateProducts(categories);
+            categoryClosureService.deleteSubtrees(subtreeIds);
+            categoryUtils.deleteCategoryTrees(subtreeIds);
+
+            // 삭제된 카테고리의 상품은 카테고리가 비워지므로 상품 응답도 함께 갱신
+            catalogVersionRegistry.categoryChanged();
+            catalogVersionRegistry.allProductsChanged();
+            categoryTreeCache.invalidate();
+            categoryStatistics.invalidate();
 
             response.put("message", "카테고리가 삭제되었습니다.");
         }
@@ -129,5 +172,26 @@ public class CategoryServiceImpl implements CategoryService {
         return response;
     }
 
+    @Transactional
+    public Map<String, String> reorderCategories(CategoryOrderRequest request) {
+
+        List<Long> ids = request.getCategoryIds();
+        List<Long> siblingIds = categoryRepository.findIdsByParentId(request.getParentId());
+
+        // 같은 부모의 카테고리를 빠짐없이, 중복 없이 전달해야 함
+        if (ids == null || ids.isEmpty() || ids.size() != siblingIds.size() || !new HashSet<>(ids).equals(new HashSet<>(siblingIds))) {
+            throw new GlobalException(ErrorCode.INVALID_CATEGORY_ORDER);
+        }
+
+        categoryRepository.applyOrder(ids);
+
+        catalogVersionRegistry.categoryChanged();
+        categoryTreeCache.invalidate();
+
+        Map<String, String> response = new HashMap<>();
+        response.put("message", "카테고리 순서가 변경되었습니다.");
+        return response;
+    }
+
 
 }
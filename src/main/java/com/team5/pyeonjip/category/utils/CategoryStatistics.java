@@ -0,0 +1,340 @@
+package com.team5.pyeonjip.category.utils;
+
+import com.team5.pyeonjip.category.dto.CategoryMenuResponse;
+import com.team5.pyeonjip.category.dto.CategoryResponse;
+import com.team5.pyeonjip.global.util.TransactionUtils;
+import com.team5.pyeonjip.product.entity.Product;
+import com.team5.pyeonjip.product.entity.ProductDetail;
+import com.team5.pyeonjip.product.repository.ProductDetailRepository;
+import com.team5.pyeonjip.product.repository.ProductRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * 카테고리별 상품 수 집계.
+ * - 상품별 (카테고리, 재고가 있는 옵션 id)를 메모리에 두고 카테고리별 상품 수, 재고가 있는 상품 수를 증분으로 갱신한다.
+ * - 상품 생성/삭제와 옵션 재고 변경은 커밋 이후 반영하며, 변경량이 아니라 변경 후 상태를 기록하므로 같은 변경을 다시 반영해도 결과가 같다.
+ * - 첫 조회 시 쿼리 두 번으로 초기화하고, 동시 커밋의 반영 순서가 뒤바뀌어 생길 수 있는 오차는 refresh-interval 마다 다시 읽어 바로잡는다.
+ *   다시 읽는 동안에는 락을 잡지 않고 이전 집계를 계속 쓰며, 그 사이 변경은 rebuildBuffer에 모아 새 집계에 다시 반영한다.
+ * - 하위 카테고리 합계는 트리 스냅샷을 따라 계산하며, 스냅샷과 집계가 그대로면 이전 메뉴를 재사용한다.
+ */
+@Slf4j
+@Component
+public class CategoryStatistics {
+
+    private final ProductRepository productRepository;
+    private final ProductDetailRepository productDetailRepository;
+    private final long refreshIntervalMs;
+
+    // DB에서 다시 읽는 요청은 하나만 (집계 상태의 락은 잡지 않는다)
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    // 아래 상태는 모두 this로 동기화
+    private Tally tally; // 초기화 전이거나 invalidate 이후면 null
+    private long version;
+    private long loadedAt;
+    private long generation; // invalidate 마다 증가 (그 전에 시작한 재집계 결과는 버림)
+    private List<Consumer<Tally>> rebuildBuffer; // 재집계 중 들어온 변경 (교체 직전에 새 집계에 다시 반영)
+
+    private volatile Menu menu;
+
+    public CategoryStatistics(ProductRepository productRepository,
+                              ProductDetailRepository productDetailRepository,
+                              @Value("${app.category.statistics.refresh-interval-ms:600000}") long refreshIntervalMs) {
+        this.productRepository = productRepository;
+        this.productDetailRepository = productDetailRepository;
+        this.refreshIntervalMs = refreshIntervalMs;
+    }
+
+    // 카테고리 트리에 상품 수를 더한 메뉴
+    public List<CategoryMenuResponse> getMenu(CategoryTreeSnapshot snapshot) {
+        refreshIfStale();
+
+        Map<Long, Counts> counts = new HashMap<>();
+        long countsVersion;
+
+        synchronized (this) {
+            Menu cached = menu;
+            if (cached != null && cached.treeVersion() == snapshot.getVersion() && cached.countsVersion() == version) {
+                return cached.roots();
+            }
+
+            if (tally != null) {
+                tally.directCounts.forEach((categoryId, count) -> counts.put(categoryId, count.copy()));
+            }
+            countsVersion = version;
+        }
+
+        List<CategoryMenuResponse> roots = snapshot.getRootResponses().stream()
+                .map(category -> toMenu(category, counts))
+                .toList();
+
+        menu = new Menu(snapshot.getVersion(), countsVersion, roots);
+        return roots;
+    }
+
+    // 상품 생성 (옵션이 함께 저장된 상품)
+    public void productSaved(Product product) {
+        TransactionUtils.afterCommit(() -> {
+            Long categoryId = product.getCategory() != null ? product.getCategory().getId() : null;
+            Set<Long> inStockOptions = new HashSet<>();
+            for (ProductDetail detail : product.getProductDetails()) {
+                if (isInStock(detail)) {
+                    inStockOptions.add(detail.getId());
+                }
+            }
+
+            update(product.getId(), true, state -> {
+                state.categoryId = categoryId;
+                state.inStockOptions.clear();
+                state.inStockOptions.addAll(inStockOptions);
+            });
+        });
+    }
+
+    // 상품 삭제
+    public void productRemoved(Long productId) {
+        TransactionUtils.afterCommit(() -> apply(target -> target.remove(productId)));
+    }
+
+    // 옵션 생성, 재고 변경
+    public void optionChanged(ProductDetail detail) {
+        TransactionUtils.afterCommit(() -> update(productIdOf(detail), false, state -> {
+            if (isInStock(detail)) {
+                state.inStockOptions.add(detail.getId());
+            } else {
+                state.inStockOptions.remove(detail.getId());
+            }
+        }));
+    }
+
+    // 옵션 삭제
+    public void optionRemoved(ProductDetail detail) {
+        TransactionUtils.afterCommit(() -> update(productIdOf(detail), false,
+                state -> state.inStockOptions.remove(detail.getId())));
+    }
+
+    // 여러 상품의 카테고리가 한 번에 바뀌는 경우 (카테고리 삭제 등), 다음 조회에서 다시 읽는다.
+    public void invalidate() {
+        TransactionUtils.afterCommit(() -> {
+            synchronized (this) {
+                tally = null;
+                generation++;
+                version++;
+            }
+        });
+    }
+
+    private void update(Long productId, boolean create, Consumer<ProductState> change) {
+        if (productId == null) {
+            return;
+        }
+        apply(target -> target.update(productId, create, change));
+    }
+
+    // 현재 집계에 반영하고, 재집계 중이면 새 집계에도 다시 반영하도록 기록
+    // (변경량이 아니라 변경 후 상태를 기록하므로 두 번 반영해도 결과가 같다)
+    private synchronized void apply(Function<Tally, Boolean> change) {
+        if (rebuildBuffer != null) {
+            rebuildBuffer.add(change::apply);
+        }
+        // 초기화 전 변경은 초기화 시 DB에서 읽힌다.
+        if (tally != null && change.apply(tally)) {
+            version++;
+        }
+    }
+
+    // 처음이거나 refresh-interval 이 지났으면 다시 읽는다.
+    // - 락 밖에서 새 집계를 만든 뒤 교체하므로 그동안 조회와 변경 반영은 이전 집계로 계속 처리된다.
+    // - 이전 집계가 있으면 다른 요청이 읽는 중일 때 기다리지 않고 이전 집계를 쓴다.
+    private void refreshIfStale() {
+        boolean initial;
+        synchronized (this) {
+            if (tally != null && System.currentTimeMillis() - loadedAt < refreshIntervalMs) {
+                return;
+            }
+            initial = tally == null;
+        }
+
+        if (initial) {
+            rebuildLock.lock();
+        } else if (!rebuildLock.tryLock()) {
+            return;
+        }
+
+        try {
+            long startedGeneration;
+            synchronized (this) {
+                // 기다리는 동안 다른 요청이 이미 읽었으면 건너뛴다.
+                if (tally != null && System.currentTimeMillis() - loadedAt < refreshIntervalMs) {
+                    return;
+                }
+                startedGeneration = generation;
+                rebuildBuffer = new ArrayList<>();
+            }
+
+            long startedAt = System.currentTimeMillis();
+            Tally rebuilt = null;
+            try {
+                rebuilt = load();
+            } finally {
+                synchronized (this) {
+                    if (rebuilt != null && generation == startedGeneration) {
+                        for (Consumer<Tally> change : rebuildBuffer) {
+                            change.accept(rebuilt);
+                        }
+                        tally = rebuilt;
+                        loadedAt = startedAt;
+                        version++;
+                    }
+                    rebuildBuffer = null;
+                }
+            }
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private Tally load() {
+        Tally loaded = new Tally();
+
+        for (Object[] row : productRepository.findAllCategoryIds()) {
+            ProductState state = new ProductState();
+            state.categoryId = (Long) row[1];
+            loaded.products.put((Long) row[0], state);
+        }
+        for (Object[] row : productDetailRepository.findInStockIds()) {
+            ProductState state = loaded.products.get((Long) row[0]);
+            if (state != null) {
+                state.inStockOptions.add((Long) row[1]);
+            }
+        }
+        loaded.products.values().forEach(state -> loaded.count(state.categoryId, state.isInStock(), 1));
+
+        log.debug("[카테고리 상품 수 집계]: 상품 {}개, 카테고리 {}개", loaded.products.size(), loaded.directCounts.size());
+        return loaded;
+    }
+
+    // 하위 카테고리 합계는 자식 메뉴를 먼저 만든 뒤 더한다.
+    private CategoryMenuResponse toMenu(CategoryResponse category, Map<Long, Counts> counts) {
+        List<CategoryMenuResponse> children = category.getChildren().stream()
+                .map(child -> toMenu(child, counts))
+                .toList();
+
+        Counts direct = counts.get(category.getId());
+        long productCount = direct != null ? direct.products : 0L;
+        long inStockProductCount = direct != null ? direct.inStockProducts : 0L;
+
+        long totalProductCount = productCount;
+        long totalInStockProductCount = inStockProductCount;
+        for (CategoryMenuResponse child : children) {
+            totalProductCount += child.getTotalProductCount();
+            totalInStockProductCount += child.getTotalInStockProductCount();
+        }
+
+        return new CategoryMenuResponse(category.getId(), category.getName(), category.getSort(), category.getParentId(),
+                productCount, inStockProductCount, totalProductCount, totalInStockProductCount, children);
+    }
+
+    private Long productIdOf(ProductDetail detail) {
+        return detail.getProduct() != null ? detail.getProduct().getId() : null;
+    }
+
+    private boolean isInStock(ProductDetail detail) {
+        return detail.getQuantity() != null && detail.getQuantity() > 0;
+    }
+
+    // 상품별 상태와 카테고리별 상품 수 (CategoryStatistics의 락 안에서만 변경)
+    private static final class Tally {
+        private final Map<Long, ProductState> products = new HashMap<>();
+        private final Map<Long, Counts> directCounts = new HashMap<>();
+
+        // 집계가 바뀌었으면 true
+        private boolean update(Long productId, boolean create, Consumer<ProductState> change) {
+            ProductState state = products.get(productId);
+            boolean existed = state != null;
+            if (!existed) {
+                if (!create) {
+                    return false;
+                }
+                state = new ProductState();
+                products.put(productId, state);
+            }
+
+            Long beforeCategoryId = state.categoryId;
+            boolean beforeInStock = state.isInStock();
+
+            change.accept(state);
+
+            if (existed && Objects.equals(beforeCategoryId, state.categoryId) && beforeInStock == state.isInStock()) {
+                return false;
+            }
+
+            if (existed) {
+                count(beforeCategoryId, beforeInStock, -1);
+            }
+            count(state.categoryId, state.isInStock(), 1);
+            return true;
+        }
+
+        private boolean remove(Long productId) {
+            ProductState state = products.remove(productId);
+            if (state == null) {
+                return false;
+            }
+            count(state.categoryId, state.isInStock(), -1);
+            return true;
+        }
+
+        private void count(Long categoryId, boolean inStock, int delta) {
+            if (categoryId == null) {
+                return;
+            }
+
+            Counts counts = directCounts.computeIfAbsent(categoryId, id -> new Counts());
+            counts.products += delta;
+            if (inStock) {
+                counts.inStockProducts += delta;
+            }
+            if (counts.products == 0) {
+                directCounts.remove(categoryId);
+            }
+        }
+    }
+
+    private static final class ProductState {
+        private Long categoryId;
+        private final Set<Long> inStockOptions = new HashSet<>();
+
+        private boolean isInStock() {
+            return !inStockOptions.isEmpty();
+        }
+    }
+
+    private static final class Counts {
+        private long products;
+        private long inStockProducts;
+
+        private Counts copy() {
+            Counts copy = new Counts();
+            copy.products = products;
+            copy.inStockProducts = inStockProducts;
+            return copy;
+        }
+    }
+
+    private record Menu(long treeVersion, long countsVersion, List<CategoryMenuResponse> roots) {
+    }
+}
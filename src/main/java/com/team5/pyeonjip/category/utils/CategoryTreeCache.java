@@ -0,0 +1,61 @@
+package com.team5.pyeonjip.category.utils;
+
+import com.team5.pyeonjip.category.repository.CategoryRepository;
+import com.team5.pyeonjip.global.util.TransactionUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 카테고리 트리 스냅샷 캐시.
+ * - 첫 조회 시 카테고리 테이블을 한 번 읽어 스냅샷을 만들고, 이후 조회는 스냅샷만 사용한다.
+ * - 카테고리 변경은 커밋 이후 버전을 올리고 스냅샷을 비우며, 다음 조회에서 새 스냅샷으로 교체된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CategoryTreeCache {
+
+    private final CategoryRepository categoryRepository;
+
+    private final AtomicLong version = new AtomicLong();
+    private final AtomicReference<CategoryTreeSnapshot> current = new AtomicReference<>();
+
+    public CategoryTreeSnapshot get() {
+        CategoryTreeSnapshot snapshot = current.get();
+        return snapshot != null ? snapshot : rebuild();
+    }
+
+    // 카테고리 변경 시 호출 (커밋 이후 적용)
+    public void invalidate() {
+        TransactionUtils.afterCommit(() -> {
+            version.incrementAndGet();
+            current.set(null);
+        });
+    }
+
+    private synchronized CategoryTreeSnapshot rebuild() {
+        CategoryTreeSnapshot snapshot = current.get();
+        if (snapshot != null) {
+            return snapshot;
+        }
+
+        long buildVersion = version.get();
+        snapshot = CategoryTreeSnapshot.build(buildVersion, categoryRepository.findAllNodes());
+
+        // 만드는 도중 변경이 커밋되었다면 이번 요청에만 사용하고 캐시하지 않는다.
+        if (version.get() == buildVersion) {
+            current.set(snapshot);
+
+            if (version.get() != buildVersion) {
+                current.compareAndSet(snapshot, null);
+            }
+        }
+
+        log.debug("[카테고리 트리 스냅샷]: version {}, {}개", buildVersion, snapshot.size());
+        return snapshot;
+    }
+}
@@ -0,0 +1,250 @@
+package com.team5.pyeonjip.category.utils;
+
+import com.team5.pyeonjip.category.dto.CategoryNode;
+import com.team5.pyeonjip.category.dto.CategoryResponse;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 카테고리 트리의 불변 스냅샷.
+ * - 형제는 sort(없으면 마지막), id 순으로 정렬하며 자식 목록은 배열(CSR) 형태로 보관한다.
+ * - DFS 방문 순서(tin, tout)로 서브트리를 연속 구간으로 표현하여 포함 여부를 O(1)에 판단한다.
+ * - 노드별 응답 객체와 Leaf id 목록은 생성 시 미리 만들어 두므로 조회 시 SQL과 계산이 없다.
+ * - 부모가 없어진 카테고리는 전체 트리에서 제외되지만 id로는 조회할 수 있다.
+ */
+public final class CategoryTreeSnapshot {
+
+    private static final Comparator<CategoryNode> SIBLING_ORDER = Comparator
+            .comparing(CategoryNode::sort, Comparator.nullsLast(Integer::compareTo))
+            .thenComparing(CategoryNode::id);
+
+    private final long version;
+
+    private final CategoryNode[] nodes;
+    private final Map<Long, Integer> indexById;
+
+    // 자식 목록 (children[childStart[i] .. childStart[i + 1]))
+    private final int[] childStart;
+    private final int[] children;
+
+    // DFS 방문 순서, 서브트리는 order[tin[i] .. tout[i])
+    private final int[] order;
+    private final int[] tin;
+    private final int[] tout;
+
+    private final List<List<Long>> leafIds;
+    private final CategoryResponse[] responses;
+    private final List<CategoryResponse> rootResponses;
+    private final List<CategoryResponse> leafResponses;
+
+    private CategoryTreeSnapshot(long version, List<CategoryNode> rows) {
+        this.version = version;
+
+        int size = rows.size();
+        this.nodes = rows.stream().sorted(SIBLING_ORDER).toArray(CategoryNode[]::new);
+        this.indexById = new HashMap<>(size * 2);
+        for (int i = 0; i < size; i++) {
+            indexById.put(nodes[i].id(), i);
+        }
+
+        // 부모 인덱스 (최상위 -1, 부모가 없어진 경우 -2)
+        int[] parent = new int[size];
+        int[] childCount = new int[size];
+        for (int i = 0; i < size; i++) {
+            Long parentId = nodes[i].parentId();
+            Integer parentIndex = parentId == null ? null : indexById.get(parentId);
+
+            if (parentId == null) {
+                parent[i] = -1;
+            } else if (parentIndex == null) {
+                parent[i] = -2;
+            } else {
+                parent[i] = parentIndex;
+                childCount[parentIndex]++;
+            }
+        }
+
+        this.childStart = new int[size + 1];
+        for (int i = 0; i < size; i++) {
+            childStart[i + 1] = childStart[i] + childCount[i];
+        }
+
+        // nodes가 이미 형제 순서로 정렬되어 있으므로 채우는 순서가 곧 자식 순서
+        this.children = new int[childStart[size]];
+        int[] cursor = Arrays.copyOf(childStart, size);
+        for (int i = 0; i < size; i++) {
+            if (parent[i] >= 0) {
+                children[cursor[parent[i]]++] = i;
+            }
+        }
+
+        this.order = new int[size];
+        this.tin = new int[size];
+        this.tout = new int[size];
+        int[] treeParent = new int[size];
+        int[] stack = new int[size];
+        int[] next = new int[size];
+        Arrays.fill(tin, -1);
+
+        int timer = 0;
+        List<Integer> roots = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            if (parent[i] == -1) {
+                roots.add(i);
+                timer = traverse(i, timer, treeParent, stack, next);
+            }
+        }
+        // 부모가 없어진 카테고리, 순환 참조로 도달할 수 없는 카테고리
+        for (int i = 0; i < size; i++) {
+            if (tin[i] == -1) {
+                timer = traverse(i, timer, treeParent, stack, next);
+            }
+        }
+
+        // 역방향 DFS 순서로 처리하면 자식이 부모보다 먼저 만들어진다.
+        this.responses = new CategoryResponse[size];
+        List<List<Long>> leaves = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            leaves.add(null);
+        }
+
+        for (int t = size - 1; t >= 0; t--) {
+            int node = order[t];
+
+            List<CategoryResponse> childResponses = new ArrayList<>(childStart[node + 1] - childStart[node]);
+            for (int c = childStart[node]; c < childStart[node + 1]; c++) {
+                if (treeParent[children[c]] == node) {
+                    childResponses.add(responses[children[c]]);
+                }
+            }
+
+            CategoryNode category = nodes[node];
+            responses[node] = new CategoryResponse(category.id(), category.name(), category.sort(), category.parentId(),
+                    List.copyOf(childResponses));
+
+            leaves.set(node, collectLeaves(node));
+        }
+        this.leafIds = leaves;
+
+        this.rootResponses = roots.stream().map(root -> responses[root]).toList();
+        this.leafResponses = Arrays.stream(order)
+                .filter(this::isLeaf)
+                .mapToObj(node -> responses[node])
+                .toList();
+    }
+
+    public static CategoryTreeSnapshot build(long version, Collection<CategoryNode> rows) {
+        return new CategoryTreeSnapshot(version, List.copyOf(rows));
+    }
+
+    // 반복 DFS (깊이 제한 없음, 이미 방문한 노드는 건너뛰어 순환 참조에도 안전)
+    private int traverse(int start, int timer, int[] treeParent, int[] stack, int[] next) {
+        int top = 0;
+
+        stack[top] = start;
+        next[top] = childStart[start];
+        treeParent[start] = -1;
+        tin[start] = timer;
+        order[timer++] = start;
+
+        while (top >= 0) {
+            int node = stack[top];
+
+            if (next[top] < childStart[node + 1]) {
+                int child = children[next[top]++];
+                if (tin[child] != -1) {
+                    continue;
+                }
+
+                treeParent[child] = node;
+                tin[child] = timer;
+                order[timer++] = child;
+
+                top++;
+                stack[top] = child;
+                next[top] = childStart[child];
+            } else {
+                tout[node] = timer;
+                top--;
+            }
+        }
+        return timer;
+    }
+
+    // 서브트리의 Leaf id (sort 순, 같으면 트리 순서)
+    private List<Long> collectLeaves(int node) {
+        return Arrays.stream(order, tin[node], tout[node])
+                .filter(this::isLeaf)
+                .boxed()
+                .sorted(Comparator.comparing((Integer leaf) -> nodes[leaf].sort(), Comparator.nullsLast(Integer::compareTo)))
+                .map(leaf -> nodes[leaf].id())
+                .toList();
+    }
+
+    private boolean isLeaf(int node) {
+        return childStart[node] == childStart[node + 1];
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public int size() {
+        return nodes.length;
+    }
+
+    public boolean contains(Long id) {
+        return id != null && indexById.containsKey(id);
+    }
+
+    // 최상위 카테고리 (하위 카테고리 포함)
+    public List<CategoryResponse> getRootResponses() {
+        return rootResponses;
+    }
+
+    // 하위 카테고리가 없는 카테고리 전체
+    public List<CategoryResponse> getLeafResponses() {
+        return leafResponses;
+    }
+
+    // 해당 카테고리 (하위 카테고리 포함), 없으면 null
+    public CategoryResponse getResponse(Long id) {
+        Integer index = indexById.get(id);
+        return index == null ? null : responses[index];
+    }
+
+    // 해당 카테고리 서브트리의 Leaf id (본인이 Leaf면 본인), 없으면 빈 리스트
+    public List<Long> getLeafIds(Long id) {
+        Integer index = indexById.get(id);
+        return index == null ? List.of() : leafIds.get(index);
+    }
+
+    // 해당 카테고리와 모든 하위 카테고리 id
+    public List<Long> getSubtreeIds(Long id) {
+        Integer index = indexById.get(id);
+        if (index == null) {
+            return List.of();
+        }
+
+        return Arrays.stream(order, tin[index], tout[index])
+                .mapToObj(node -> nodes[node].id())
+                .toList();
+    }
+
+    // descendantId가 ancestorId 본인이거나 그 하위 카테고리인지 여부
+    public boolean isInSubtree(Long ancestorId, Long descendantId) {
+        Integer ancestor = indexById.get(ancestorId);
+        Integer descendant = indexById.get(descendantId);
+        if (ancestor == null || descendant == null) {
+            return false;
+        }
+
+        return tin[ancestor] <= tin[descendant] && tin[descendant] < tout[ancestor];
+    }
+}
@@ -1,7 +1,5 @@
 package com.team5.pyeonjip.category.utils;
 
-import com.team5.pyeonjip.category.dto.CategoryRequest;
-import com.team5.pyeonjip.category.entity.Category;
 import com.team5.pyeonjip.category.repository.CategoryRepository;
 import com.team5.pyeonjip.product.repository.ProductRepository;
 import lombok.RequiredArgsConstructor;
@@ -9,6 +7,7 @@ import org.springframework.stereotype.Component;
 
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 
 @Component
 @RequiredArgsConstructor
@@ -17,122 +16,53 @@ public class CategoryUtils {
     private final CategoryRepository categoryRepository;
     private  final ProductRepository productRepository;
 
-    // 최상위 카테고리만 조회
-    public List<Category> getParentCategories(List<Category> allCategories) {
-
-        return allCategories.stream()
-                .filter(category -> category.getParentId() == null)
-                .toList();
-    }
-
-    // 부모-자식 카테고리 연결
-    public List<Category> createChildrenCategories(List<Category> parentCategories,
-                                                           List<Category> allCategories) {
-
-        return parentCategories.stream()
-                .map(parent -> {
-                    List<Category> children = allCategories.stream()
-                            .filter(child -> parent.getId().equals(child.getParentId()))
-                            .toList();
-
-                    return parent.toBuilder()
-                            .children(children)
-                            .build();
-                })
-                .toList();
-    }
-
-    // sort 변경으로 인한 형제 카테고리 sort 업데이트
-    public void updateSiblingSort(Category old, CategoryRequest request) {
+    // sort 변경으로 인한 형제 카테고리 sort 업데이트 (범위 UPDATE 한두 번으로 처리)
+    public void updateSiblingSort(Long oldParentId, Integer oldSort, Long newParentId, Integer newSort) {
 
         // 요청한 순서값이 없으면 재배치 하지 않아도 됨
-        if (request.getSort() == null) {
+        if (newSort == null) {
             return;
         }
 
-        List<Category> oldSiblings = categoryRepository.findByParentId(old.getParentId());
-        List<Category> newSiblings = categoryRepository.findByParentId(request.getParentId());
-        Integer oldSort = old.getSort(), newSort = request.getSort();
-
         // 형제 카테고리가 변하지 않는다면 해당 뎁스에서만 업데이트, 변한다면 양쪽 뎁스 모두 업데이트
-        if (Objects.equals(old.getParentId(), request.getParentId())) {
+        if (Objects.equals(oldParentId, newParentId)) {
 
             // 요청 sort 값이 현재 sort 값보다 클 경우
             if (newSort > oldSort) {
 
-                newSiblings.stream()
-                        .filter(category -> category.getSort() > oldSort && category.getSort() <= newSort)
-                        .forEach(category -> {
-                            categoryRepository.save(category.toBuilder()
-                                    .sort(category.getSort() - 1)
-                                    .build());
-                        });
+                categoryRepository.shiftSort(newParentId, oldSort + 1, newSort, -1);
 
             // 요청 sort 값이 현재 sort 값보다 작을 경우
             } else if (newSort < oldSort) {
 
-                newSiblings.stream()
-                        .filter(category -> category.getSort() >= newSort && category.getSort() < oldSort)
-                        .forEach(category -> {
-                            categoryRepository.save(category.toBuilder()
-                                    .sort(category.getSort() + 1)
-                                    .build());
-                        });
+                categoryRepository.shiftSort(newParentId, newSort, oldSort - 1, 1);
             }
 
         } else {
 
             //기존 형제 카테고리는 사라진 sort 번호를 채워줘야 함
-            oldSiblings.stream()
-                    .filter(category -> category.getSort() > oldSort)
-                    .forEach(category -> {
-                        categoryRepository.save(category.toBuilder()
-                                .sort(category.getSort()-1)
-                                .build());
-                    });
+            if (oldSort != null) {
+                categoryRepository.shiftSort(oldParentId, oldSort + 1, Integer.MAX_VALUE, -1);
+            }
 
             //새 형제 카테고리는 요청 sort 번호를 비워줘야 함
-            newSiblings.stream()
-                    .filter(category -> category.getSort() >= newSort)
-                    .forEach(category -> {
-                        categoryRepository.save(category.toBuilder()
-                                .sort(category.getSort() + 1)
-                                .build());
-                    });
+            categoryRepository.shiftSort(newParentId, newSort, Integer.MAX_VALUE, 1);
         }
     }
 
-    // FIXME: 현재 여러개 삭제는 불가하니 매개변수 타입을 바꿔줘야함
-    public void updateSiblingsSort(List<Category> categories) {
-
-        // 삭제할 카테고리의 첫 번째 카테고리 정보 가져오기
-        Category old = categories.getFirst();
-        Long parentId = old.getParentId();
-        Integer sortToDelete = old.getSort();
-
-        // 형제 카테고리 목록 가져오기
-        List<Category> oldSiblings = categoryRepository.findByParentId(parentId);
+    // 카테고리 서브트리 일괄 삭제 - 카테고리 개수와 관계없이 고정된 개수의 쿼리 (+ 영향받는 부모마다 재정렬 한 번)
+    public void deleteCategoryTrees(Set<Long> subtreeIds) {
 
-        // 형제 카테고리의 sort 업데이트
-        for (Category sibling : oldSiblings) {
-            if (sibling.getSort() > sortToDelete) {
-                Category updatedSibling = sibling.toBuilder()
-                        .sort(sibling.getSort() - 1) // -1로 감소
-                        .build();
-                categoryRepository.save(updatedSibling);
-            }
-        }
-    }
+        // 삭제 후 sort 번호를 다시 매길 부모 (삭제되는 부모는 제외, 최상위는 null)
+        List<Long> affectedParentIds = categoryRepository.findParentIds(subtreeIds).stream()
+                .filter(parentId -> parentId == null || !subtreeIds.contains(parentId))
+                .toList();
 
-    // 카테고리 삭제 후, 연관된 프로덕트에 null 적용
-    public void deleteCategoriesAndUpdateProducts(List<Category> categories) {
+        // 연관된 프로덕트에 null 적용
+        productRepository.detachCategories(subtreeIds);
 
-        categories.forEach(category -> {
-            productRepository.findByCategoryId(category.getId()).forEach(product -> {
-                product.setCategory(null);
-            });
-        });
+        categoryRepository.deleteAllByIdInBatch(subtreeIds);
 
-        categoryRepository.deleteAll(categories);
+        affectedParentIds.forEach(categoryRepository::resortSiblings);
     }
-}
\ No newline at end of file
+}
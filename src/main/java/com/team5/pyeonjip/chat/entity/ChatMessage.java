@@ -1,6 +1,7 @@
 package com.team5.pyeonjip.chat.entity;
 
 import com.team5.pyeonjip.global.entity.BaseTimeEntity;
+import com.team5.pyeonjip.global.entity.IdSequence;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.Size;
@@ -18,7 +19,9 @@ import lombok.NoArgsConstructor;
 public class ChatMessage extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "chat_message_id_generator")
+    @TableGenerator(name = "chat_message_id_generator", table = IdSequence.TABLE, pkColumnName = IdSequence.PK_COLUMN,
+            valueColumnName = IdSequence.VALUE_COLUMN, pkColumnValue = "chat_message", allocationSize = IdSequence.ALLOCATION_SIZE)
     private Long id;
 
     @Column(name = "sender_email", nullable = false)
@@ -1,6 +1,8 @@
 package com.team5.pyeonjip.chat.websocket.config;
 
 import com.team5.pyeonjip.global.jwt.JWTUtil;
+import com.team5.pyeonjip.global.jwt.TokenClaims;
+import com.team5.pyeonjip.global.jwt.TokenRevocationService;
 import io.jsonwebtoken.ExpiredJwtException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Configuration;
@@ -24,6 +26,7 @@ import java.security.Principal;
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     private final JWTUtil jwtUtil;
+    private final TokenRevocationService tokenRevocationService;
 
     @Override
     public void configureClientInboundChannel(ChannelRegistration registration) {
@@ -36,9 +39,10 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
                     if (token != null && token.startsWith("Bearer ")) {
                         token = token.substring(7);
                         try {
-                            if (!jwtUtil.isExpired(token) && "access".equals(jwtUtil.getCategory(token))) {
-                                String email = jwtUtil.getEmail(token);
-                                String role = jwtUtil.getRole(token);
+                            TokenClaims claims = jwtUtil.parse(token);
+                            if (claims.isAccess() && !tokenRevocationService.isRevoked(claims)) {
+                                String email = claims.email();
+                                String role = claims.role();
                                 accessor.setUser(new Principal() {
                                     @Override
                                     public String getName() {
@@ -1,9 +1,13 @@
 package com.team5.pyeonjip.comment.controller;
 
+import com.team5.pyeonjip.comment.dto.CommentFeedResponse;
 import com.team5.pyeonjip.comment.dto.CommentRatingProjection;
+import com.team5.pyeonjip.comment.dto.RatingSummaryResponse;
 import com.team5.pyeonjip.comment.entity.Comment;
+import com.team5.pyeonjip.comment.enums.CommentSort;
 import com.team5.pyeonjip.comment.repository.CommentRepository;
 import com.team5.pyeonjip.comment.service.CommentService;
+import com.team5.pyeonjip.comment.service.ProductRatingSummaryService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -15,6 +19,7 @@ import java.util.List;
 @RequiredArgsConstructor
 public class CommentController {
     private final CommentService commentService;
+    private final ProductRatingSummaryService productRatingSummaryService;
 
     // 제품 댓글 조회
     @GetMapping("/product/{productId}")
@@ -22,15 +27,34 @@ public class CommentController {
         return ResponseEntity.status(HttpStatus.OK).body(commentService.getCommentsByProductId(productId));
     }
 
+    // 제품 댓글 목록 (정렬 + 커서 페이지네이션)
+    @GetMapping("/product/{productId}/feed")
+    public ResponseEntity<CommentFeedResponse> getCommentFeed(@PathVariable("productId") Long productId,
+                                                              @RequestParam(defaultValue = "NEWEST") CommentSort sort,
+                                                              @RequestParam(required = false) String cursor,
+                                                              @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.status(HttpStatus.OK).body(commentService.getCommentFeed(productId, sort, cursor, size));
+    }
+
     @GetMapping("/product-rating/{productId}")
     public ResponseEntity<List<CommentRatingProjection>> getRatingsByProductId(@PathVariable("productId") Long productId) {
         return ResponseEntity.status(HttpStatus.OK).body(commentService.getRatingsByCommentId(productId));
 
     }
 
+    // 제품 평점 집계 조회 (개수, 평균, 점수별 개수)
+    @GetMapping("/product-rating/{productId}/summary")
+    public ResponseEntity<RatingSummaryResponse> getRatingSummary(@PathVariable("productId") Long productId) {
+        return ResponseEntity.status(HttpStatus.OK).body(productRatingSummaryService.getSummary(productId));
+    }
+
     // 댓글 생성
     @PostMapping
     public ResponseEntity<Comment> createComment(@RequestBody Comment comment) {
+        // 쓰기 버퍼를 사용하는 경우 저장 예약 후 202 반환
+        if (commentService.enqueueComment(comment)) {
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(comment);
+        }
         return ResponseEntity.status(HttpStatus.CREATED).body(commentService.saveComment(comment));
     }
 
@@ -0,0 +1,43 @@
+package com.team5.pyeonjip.comment.dto;
+
+import com.team5.pyeonjip.global.exception.ErrorCode;
+import com.team5.pyeonjip.global.exception.GlobalException;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 댓글 목록 커서 (마지막으로 받은 댓글의 정렬 키).
+ * - 클라이언트에는 내부 구조를 알 수 없는 문자열로 전달한다.
+ */
+public record CommentCursor(Long rating, Timestamp createdAt, Long id) {
+
+    private static final String DELIMITER = "|";
+
+    public static CommentCursor from(CommentFeedItem item) {
+        return new CommentCursor(item.getRating(), item.getCreatedAt(), item.getId());
+    }
+
+    public String encode() {
+        String raw = rating + DELIMITER + createdAt.toInstant() + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static CommentCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + DELIMITER);
+            if (parts.length != 3) {
+                throw new GlobalException(ErrorCode.INVALID_COMMENT_CURSOR);
+            }
+
+            Long rating = parts[0].equals("null") ? null : Long.parseLong(parts[0]);
+            return new CommentCursor(rating, Timestamp.from(Instant.parse(parts[1])), Long.parseLong(parts[2]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new GlobalException(ErrorCode.INVALID_COMMENT_CURSOR);
+        }
+    }
+}
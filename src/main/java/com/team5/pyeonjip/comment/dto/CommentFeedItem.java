@@ -0,0 +1,18 @@
+package com.team5.pyeonjip.comment.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.sql.Timestamp;
+
+// 댓글 목록용 조회 결과 (엔티티 대신 필요한 컬럼만 조회)
+@Getter
+@AllArgsConstructor
+public class CommentFeedItem {
+    private Long id;
+    private String title;
+    private String content;
+    private String email;
+    private Long rating;
+    private Timestamp createdAt;
+}
@@ -0,0 +1,14 @@
+package com.team5.pyeonjip.comment.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class CommentFeedResponse {
+    private List<CommentFeedItem> comments;
+    private String nextCursor; // 다음 페이지 요청 시 전달 (마지막 페이지면 null)
+    private boolean hasNext;
+}
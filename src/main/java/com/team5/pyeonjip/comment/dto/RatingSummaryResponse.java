@@ -0,0 +1,24 @@
+package com.team5.pyeonjip.comment.dto;
+
+import com.team5.pyeonjip.comment.entity.ProductRatingSummary;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class RatingSummaryResponse {
+    private Long productId;
+    private long count;       // 평점 개수
+    private double average;   // 평균 평점
+    private long[] histogram; // 1점 ~ 5점 개수
+
+    public static RatingSummaryResponse of(ProductRatingSummary summary) {
+        return new RatingSummaryResponse(summary.getProductId(), summary.getRatingCount(), summary.getAverage(), summary.getHistogram());
+    }
+
+    public static RatingSummaryResponse empty(Long productId) {
+        return new RatingSummaryResponse(productId, 0L, 0.0, new long[5]);
+    }
+}
@@ -1,6 +1,7 @@
 package com.team5.pyeonjip.comment.entity;
 
 import com.team5.pyeonjip.global.entity.BaseTimeEntity;
+import com.team5.pyeonjip.global.entity.IdSequence;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -9,12 +10,18 @@ import lombok.Setter;
 import java.time.LocalDateTime;
 
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_comment_product_created", columnList = "product_id, created_at, id"),
+        @Index(name = "idx_comment_product_rating", columnList = "product_id, rating, created_at, id")
+})
 @Getter @Setter
 @NoArgsConstructor
 public class Comment extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "comment_id_generator")
+    @TableGenerator(name = "comment_id_generator", table = IdSequence.TABLE, pkColumnName = IdSequence.PK_COLUMN,
+            valueColumnName = IdSequence.VALUE_COLUMN, pkColumnValue = "comment", allocationSize = IdSequence.ALLOCATION_SIZE)
     private Long id;
 
     @Column(nullable = false, length = 50)
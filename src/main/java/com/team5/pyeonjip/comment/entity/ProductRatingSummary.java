@@ -0,0 +1,48 @@
+package com.team5.pyeonjip.comment.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 상품별 평점 집계 (댓글 저장/수정/삭제 시 함께 갱신)
+@Entity
+@Getter
+@NoArgsConstructor
+public class ProductRatingSummary {
+
+    @Id
+    private Long productId;
+
+    @Column(nullable = false)
+    private long ratingCount; // 평점 개수
+
+    @Column(nullable = false)
+    private long ratingSum; // 평점 합계
+
+    // 평점별 개수
+    @Column(nullable = false)
+    private long rating1;
+
+    @Column(nullable = false)
+    private long rating2;
+
+    @Column(nullable = false)
+    private long rating3;
+
+    @Column(nullable = false)
+    private long rating4;
+
+    @Column(nullable = false)
+    private long rating5;
+
+    public double getAverage() {
+        return ratingCount == 0 ? 0.0 : (double) ratingSum / ratingCount;
+    }
+
+    // 1점 ~ 5점 순서의 개수
+    public long[] getHistogram() {
+        return new long[]{rating1, rating2, rating3, rating4, rating5};
+    }
+}
@@ -0,0 +1,7 @@
+package com.team5.pyeonjip.comment.enums;
+
+public enum CommentSort {
+    NEWEST, // 최신순
+    HIGHEST, // 평점 높은순 (같은 평점은 최신순)
+    LOWEST, // 평점 낮은순 (같은 평점은 오래된순)
+}
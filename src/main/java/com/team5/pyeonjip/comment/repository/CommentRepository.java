@@ -1,10 +1,15 @@
 package com.team5.pyeonjip.comment.repository;
 
+import com.team5.pyeonjip.comment.dto.CommentFeedItem;
 import com.team5.pyeonjip.comment.dto.CommentRatingProjection;
 import com.team5.pyeonjip.comment.entity.Comment;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.sql.Timestamp;
 import java.util.List;
 
 @Repository
@@ -12,4 +17,50 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
     List<Comment> findByProductId(Long productId);
 
     List<CommentRatingProjection> findRatingByProductId(Long productId);
+
+    /*
+     * 댓글 목록 키셋 페이지네이션
+     * - (product_id, created_at, id), (product_id, rating, created_at, id) 인덱스 순서대로 읽으므로 페이지 위치와 관계없이 일정한 비용
+     * - 조회 개수는 Pageable로 제한하며, count 쿼리는 실행하지 않는다.
+     */
+    String FEED_SELECT = "SELECT new com.team5.pyeonjip.comment.dto.CommentFeedItem(c.id, c.title, c.content, c.email, c.rating, c.createdAt) " +
+            "FROM Comment c WHERE c.productId = :productId ";
+
+    // 최신순
+    @Query(FEED_SELECT + "ORDER BY c.createdAt DESC, c.id DESC")
+    List<CommentFeedItem> findFeedNewest(@Param("productId") Long productId, Pageable pageable);
+
+    @Query(FEED_SELECT +
+            "AND (c.createdAt < :createdAt OR (c.createdAt = :createdAt AND c.id < :id)) " +
+            "ORDER BY c.createdAt DESC, c.id DESC")
+    List<CommentFeedItem> findFeedNewestAfter(@Param("productId") Long productId,
+                                              @Param("createdAt") Timestamp createdAt,
+                                              @Param("id") Long id,
+                                              Pageable pageable);
+
+    // 평점 높은순
+    @Query(FEED_SELECT + "ORDER BY c.rating DESC, c.createdAt DESC, c.id DESC")
+    List<CommentFeedItem> findFeedHighest(@Param("productId") Long productId, Pageable pageable);
+
+    @Query(FEED_SELECT +
+            "AND (c.rating < :rating OR (c.rating = :rating AND (c.createdAt < :createdAt OR (c.createdAt = :createdAt AND c.id < :id)))) " +
+            "ORDER BY c.rating DESC, c.createdAt DESC, c.id DESC")
+    List<CommentFeedItem> findFeedHighestAfter(@Param("productId") Long productId,
+                                               @Param("rating") Long rating,
+                                               @Param("createdAt") Timestamp createdAt,
+                                               @Param("id") Long id,
+                                               Pageable pageable);
+
+    // 평점 낮은순
+    @Query(FEED_SELECT + "ORDER BY c.rating ASC, c.createdAt ASC, c.id ASC")
+    List<CommentFeedItem> findFeedLowest(@Param("productId") Long productId, Pageable pageable);
+
+    @Query(FEED_SELECT +
+            "AND (c.rating > :rating OR (c.rating = :rating AND (c.createdAt > :createdAt OR (c.createdAt = :createdAt AND c.id > :id)))) " +
+            "ORDER BY c.rating ASC, c.createdAt ASC, c.id ASC")
+    List<CommentFeedItem> findFeedLowestAfter(@Param("productId") Long productId,
+                                              @Param("rating") Long rating,
+                                              @Param("createdAt") Timestamp createdAt,
+                                              @Param("id") Long id,
+                                              Pageable pageable);
 }
@@ -0,0 +1,34 @@
+package com.team5.pyeonjip.comment.repository;
+
+import com.team5.pyeonjip.comment.entity.ProductRatingSummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ProductRatingSummaryRepository extends JpaRepository<ProductRatingSummary, Long> {
+
+    // 증감분을 한 문장으로 반영 (행이 없으면 생성), 동시 요청에도 값이 유실되지 않는다.
+    @Modifying
+    @Query(value = "INSERT INTO product_rating_summary " +
+            "(product_id, rating_count, rating_sum, rating1, rating2, rating3, rating4, rating5) " +
+            "VALUES (:productId, :count, :sum, :r1, :r2, :r3, :r4, :r5) " +
+            "ON DUPLICATE KEY UPDATE " +
+            "rating_count = rating_count + VALUES(rating_count), " +
+            "rating_sum = rating_sum + VALUES(rating_sum), " +
+            "rating1 = rating1 + VALUES(rating1), " +
+            "rating2 = rating2 + VALUES(rating2), " +
+            "rating3 = rating3 + VALUES(rating3), " +
+            "rating4 = rating4 + VALUES(rating4), " +
+            "rating5 = rating5 + VALUES(rating5)", nativeQuery = true)
+    void applyDelta(@Param("productId") Long productId,
+                    @Param("count") long count,
+                    @Param("sum") long sum,
+                    @Param("r1") long r1,
+                    @Param("r2") long r2,
+                    @Param("r3") long r3,
+                    @Param("r4") long r4,
+                    @Param("r5") long r5);
+}
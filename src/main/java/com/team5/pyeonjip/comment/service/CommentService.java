@@ -1,12 +1,18 @@
 package com.team5.pyeonjip.comment.service;
 
+import com.team5.pyeonjip.comment.dto.CommentCursor;
+import com.team5.pyeonjip.comment.dto.CommentFeedItem;
+import com.team5.pyeonjip.comment.dto.CommentFeedResponse;
 import com.team5.pyeonjip.comment.dto.CommentRatingProjection;
 import com.team5.pyeonjip.comment.entity.Comment;
+import com.team5.pyeonjip.comment.enums.CommentSort;
 import com.team5.pyeonjip.comment.repository.CommentRepository;
 import com.team5.pyeonjip.global.exception.ErrorCode;
 import com.team5.pyeonjip.global.exception.GlobalException;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -14,21 +20,65 @@ import java.util.List;
 @Service
 @RequiredArgsConstructor
 public class CommentService {
+    private static final int MAX_FEED_SIZE = 50;
+
     private final CommentRepository commentRepository;
+    private final ProductRatingSummaryService productRatingSummaryService;
+    private final CommentWriteBuffer commentWriteBuffer;
 
     public List<Comment> getCommentsByProductId(Long productId) {
         // 빈값도 허용을 해줘야 하기 때문에 예외처리 하면 안됨
         return commentRepository.findByProductId(productId);
     }
 
+    // 댓글 목록 (커서 기반 페이지네이션)
+    public CommentFeedResponse getCommentFeed(Long productId, CommentSort sort, String cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_FEED_SIZE));
+
+        // 다음 페이지 존재 여부 확인을 위해 하나 더 조회
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+        CommentCursor after = cursor == null || cursor.isBlank() ? null : CommentCursor.decode(cursor);
+
+        List<CommentFeedItem> items = switch (sort) {
+            case NEWEST -> after == null
+                    ? commentRepository.findFeedNewest(productId, limit)
+                    : commentRepository.findFeedNewestAfter(productId, after.createdAt(), after.id(), limit);
+            case HIGHEST -> after == null
+                    ? commentRepository.findFeedHighest(productId, limit)
+                    : commentRepository.findFeedHighestAfter(productId, after.rating(), after.createdAt(), after.id(), limit);
+            case LOWEST -> after == null
+                    ? commentRepository.findFeedLowest(productId, limit)
+                    : commentRepository.findFeedLowestAfter(productId, after.rating(), after.createdAt(), after.id(), limit);
+        };
+
+        boolean hasNext = items.size() > pageSize;
+        if (hasNext) {
+            items = items.subList(0, pageSize);
+        }
+
+        String nextCursor = hasNext ? CommentCursor.from(items.getLast()).encode() : null;
+        return new CommentFeedResponse(items, nextCursor, hasNext);
+    }
+
     public List<CommentRatingProjection> getRatingsByCommentId(Long commentId) {
         return commentRepository.findRatingByProductId(commentId);
     }
 
+    // 쓰기 버퍼에 추가 (버퍼를 사용하지 않거나 가득 차면 false -> saveComment로 바로 저장)
+    public boolean enqueueComment(Comment comment) {
+        validateCommentContent(comment);
+        return commentWriteBuffer.offer(comment);
+    }
+
     @Transactional
     public Comment saveComment(Comment comment) {
         validateCommentContent(comment);
-        return commentRepository.save(comment);
+        Comment savedComment = commentRepository.save(comment);
+
+        if (savedComment.getProductId() != null) {
+            productRatingSummaryService.addRating(savedComment.getProductId(), savedComment.getRating());
+        }
+        return savedComment;
     }
 
     @Transactional
@@ -44,6 +94,10 @@ public class CommentService {
         Comment comment = commentRepository.findById(id)
                 .orElseThrow(() -> new GlobalException(ErrorCode.COMMENT_NOT_FOUND));
         commentRepository.delete(comment);
+
+        if (comment.getProductId() != null) {
+            productRatingSummaryService.removeRating(comment.getProductId(), comment.getRating());
+        }
     }
 
     private void validateCommentContent(Comment comment) {
@@ -56,9 +110,16 @@ public class CommentService {
         if (comment.getRating() == null) {
             throw new GlobalException(ErrorCode.EMPTY_COMMENT_RATING);
         }
+        if (comment.getRating() < 1 || comment.getRating() > 5) {
+            throw new GlobalException(ErrorCode.INVALID_COMMENT_RATING);
+        }
     }
 
     private Comment updateExistingComment(Comment existing, Comment updated) {
+        if (existing.getProductId() != null) {
+            productRatingSummaryService.changeRating(existing.getProductId(), existing.getRating(), updated.getRating());
+        }
+
         existing.setContent(updated.getContent());
         existing.setRating(updated.getRating());
         existing.setTitle(updated.getTitle());
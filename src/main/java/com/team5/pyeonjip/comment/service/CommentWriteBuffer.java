@@ -0,0 +1,182 @@
+package com.team5.pyeonjip.comment.service;
+
+import com.team5.pyeonjip.comment.entity.Comment;
+import com.team5.pyeonjip.comment.repository.CommentRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+/**
+ * 댓글 쓰기 버퍼 (app.comment.buffer.enabled=true 일 때만 동작).
+ * - 검증된 댓글을 메모리 큐에 담고, batch-size 만큼 모이거나 flush-interval 이 지나면 한 트랜잭션으로 저장한다.
+ * - 평점 집계는 배치마다 상품별로 한 번만 갱신한다.
+ * - 큐가 가득 차면 offer 가 false 를 반환하므로 호출 측에서 바로 저장하고, 종료 시 남은 댓글은 모두 저장한다.
+ * - offer 와 종료는 closeLock 으로 배제하므로, 종료가 시작된 뒤에는 큐에 추가되지 않는다. (false 를 받은 호출 측이 직접 저장)
+ * - 버퍼에 있는 댓글은 저장 전까지 조회되지 않는다.
+ */
+@Slf4j
+@Component
+public class CommentWriteBuffer {
+
+    private final CommentRepository commentRepository;
+    private final ProductRatingSummaryService productRatingSummaryService;
+    private final TransactionTemplate transactionTemplate;
+
+    private final boolean enabled;
+    private final int batchSize;
+    private final long flushIntervalMs;
+    private final BlockingQueue<Comment> queue;
+
+    // offer 끼리는 동시에, 종료(running = false)와는 배타적으로 실행
+    private final ReadWriteLock closeLock = new ReentrantReadWriteLock();
+
+    private volatile boolean running;
+    private Thread flushThread;
+
+    public CommentWriteBuffer(CommentRepository commentRepository,
+                              ProductRatingSummaryService productRatingSummaryService,
+                              TransactionTemplate transactionTemplate,
+                              @Value("${app.comment.buffer.enabled:false}") boolean enabled,
+                              @Value("${app.comment.buffer.capacity:1000}") int capacity,
+                              @Value("${app.comment.buffer.batch-size:100}") int batchSize,
+                              @Value("${app.comment.buffer.flush-interval-ms:500}") long flushIntervalMs) {
+        this.commentRepository = commentRepository;
+        this.productRatingSummaryService = productRatingSummaryService;
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.flushIntervalMs = flushIntervalMs;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+
+        running = true;
+        flushThread = new Thread(this::runFlushLoop, "comment-write-buffer");
+        flushThread.setDaemon(true);
+        flushThread.start();
+    }
+
+    // 버퍼에 추가 (비활성화 상태이거나 큐가 가득 차면 false)
+    public boolean offer(Comment comment) {
+        Lock lock = closeLock.readLock();
+        lock.lock();
+        try {
+            return running && queue.offer(comment);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void runFlushLoop() {
+        List<Comment> batch = new ArrayList<>(batchSize);
+
+        while (running) {
+            try {
+                Comment first = queue.poll(flushIntervalMs, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+
+                // 첫 댓글 이후 flush-interval 동안 batch-size 까지 모은다.
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+                while (batch.size() < batchSize) {
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        break;
+                    }
+
+                    Comment next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+
+                flush(batch);
+                batch.clear();
+            } catch (InterruptedException e) {
+                // 모은 댓글은 큐에 되돌리지 않고 바로 저장 (큐가 다시 가득 찼으면 되돌릴 수 없음)
+                // 인터럽트 상태에서는 커넥션 획득이 실패할 수 있으므로 저장 후 상태를 복원한다.
+                flush(batch);
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void flush(List<Comment> batch) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> saveBatch(batch));
+        } catch (Exception e) {
+            // 배치 중 한 건이라도 실패하면 전체가 롤백되므로 한 건씩 다시 저장
+            log.warn("[댓글 배치 저장 실패]: {}건, 개별 저장으로 재시도", batch.size(), e);
+            for (Comment comment : batch) {
+                try {
+                    transactionTemplate.executeWithoutResult(status -> saveBatch(List.of(comment)));
+                } catch (Exception retryException) {
+                    log.error("[댓글 저장 실패]: {}", comment.getProductId(), retryException);
+                }
+            }
+        }
+    }
+
+    private void saveBatch(List<Comment> batch) {
+        commentRepository.saveAll(batch);
+
+        Map<Long, List<Long>> ratingsByProduct = batch.stream()
+                .filter(comment -> comment.getProductId() != null)
+                .collect(Collectors.groupingBy(Comment::getProductId,
+                        Collectors.mapping(Comment::getRating, Collectors.toList())));
+
+        ratingsByProduct.forEach(productRatingSummaryService::addRatings);
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        if (!running) {
+            return;
+        }
+
+        // 진행 중인 offer 가 끝난 뒤 닫으므로, 이후에는 큐에 새 댓글이 들어오지 않는다.
+        Lock lock = closeLock.writeLock();
+        lock.lock();
+        try {
+            running = false;
+        } finally {
+            lock.unlock();
+        }
+
+        // 저장 중인 배치를 인터럽트하지 않도록 poll 시간 초과로 루프가 끝나기를 기다린다.
+        flushThread.join(TimeUnit.SECONDS.toMillis(10));
+        if (flushThread.isAlive()) {
+            flushThread.interrupt();
+        }
+
+        // 남은 댓글 저장 (빌 때까지)
+        List<Comment> remaining = new ArrayList<>(batchSize);
+        while (queue.drainTo(remaining, batchSize) > 0) {
+            flush(remaining);
+            remaining.clear();
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.team5.pyeonjip.comment.service;
+
+import com.team5.pyeonjip.comment.dto.RatingSummaryResponse;
+import com.team5.pyeonjip.comment.entity.ProductRatingSummary;
+import com.team5.pyeonjip.comment.repository.ProductRatingSummaryRepository;
+import com.team5.pyeonjip.global.cache.CatalogVersionRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class ProductRatingSummaryService {
+
+    private final ProductRatingSummaryRepository productRatingSummaryRepository;
+    private final CatalogVersionRegistry catalogVersionRegistry;
+
+    // 평점 추가
+    @Transactional
+    public void addRating(Long productId, Long rating) {
+        if (!isValid(rating)) {
+            return;
+        }
+        applyDelta(productId, 1, rating, histogram(rating, 1));
+    }
+
+    // 여러 평점을 한 번에 추가 (배치 저장용)
+    @Transactional
+    public void addRatings(Long productId, List<Long> ratings) {
+        long count = 0;
+        long sum = 0;
+        long[] histogram = new long[5];
+
+        for (Long rating : ratings) {
+            if (isValid(rating)) {
+                count++;
+                sum += rating;
+                histogram[rating.intValue() - 1]++;
+            }
+        }
+
+        if (count > 0) {
+            applyDelta(productId, count, sum, histogram);
+        }
+    }
+
+    // 평점 삭제
+    @Transactional
+    public void removeRating(Long productId, Long rating) {
+        if (!isValid(rating)) {
+            return;
+        }
+        applyDelta(productId, -1, -rating, histogram(rating, -1));
+    }
+
+    // 평점 변경
+    @Transactional
+    public void changeRating(Long productId, Long oldRating, Long newRating) {
+        if (Objects.equals(oldRating, newRating)) {
+            return;
+        }
+
+        // 집계되지 않은 기존 평점(범위 밖)이면 추가로 처리
+        if (!isValid(oldRating)) {
+            addRating(productId, newRating);
+            return;
+        }
+        if (!isValid(newRating)) {
+            removeRating(productId, oldRating);
+            return;
+        }
+
+        long[] delta = histogram(oldRating, -1);
+        delta[(int) newRating - 1] += 1;
+        applyDelta(productId, 0, newRating - oldRating, delta);
+    }
+
+    @Transactional(readOnly = true)
+    public RatingSummaryResponse getSummary(Long productId) {
+        return productRatingSummaryRepository.findById(productId)
+                .map(RatingSummaryResponse::of)
+                .orElseGet(() -> RatingSummaryResponse.empty(productId));
+    }
+
+    // 목록 화면용 - 여러 상품의 집계를 한 번에 조회
+    @Transactional(readOnly = true)
+    public Map<Long, ProductRatingSummary> getSummaries(Collection<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return Map.of();
+        }
+
+        return productRatingSummaryRepository.findAllById(productIds).stream()
+                .collect(Collectors.toMap(ProductRatingSummary::getProductId, Function.identity()));
+    }
+
+    private void applyDelta(Long productId, long count, long sum, long[] histogram) {
+        productRatingSummaryRepository.applyDelta(productId, count, sum,
+                histogram[0], histogram[1], histogram[2], histogram[3], histogram[4]);
+
+        // 상품 응답에 평점이 포함되므로 상품 ETag도 갱신
+        catalogVersionRegistry.productChanged(productId);
+    }
+
+    // 범위를 벗어난 과거 데이터는 집계에서 제외
+    private boolean isValid(Long rating) {
+        return rating != null && rating >= 1 && rating <= 5;
+    }
+
+    private long[] histogram(long rating, long value) {
+        long[] histogram = new long[5];
+        histogram[(int) rating - 1] = value;
+        return histogram;
+    }
+}
@@ -0,0 +1,31 @@
+package com.team5.pyeonjip.coupon.controller;
+
+import com.team5.pyeonjip.coupon.dto.CouponListResponse;
+import com.team5.pyeonjip.coupon.enums.CouponStatus;
+import com.team5.pyeonjip.coupon.service.CouponService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/admin/coupons")
+public class AdminCouponController {
+
+    private final CouponService couponService;
+
+    // 쿠폰 목록 (상태/할인율 필터 + 커서 페이지네이션)
+    @GetMapping
+    public ResponseEntity<CouponListResponse> getCoupons(@RequestParam(defaultValue = "ACTIVE") CouponStatus status,
+                                                         @RequestParam(required = false) Long minDiscount,
+                                                         @RequestParam(required = false) Long maxDiscount,
+                                                         @RequestParam(required = false) String cursor,
+                                                         @RequestParam(defaultValue = "50") int size) {
+        return ResponseEntity.status(HttpStatus.OK)
+                .body(couponService.getCoupons(status, minDiscount, maxDiscount, cursor, size));
+    }
+}
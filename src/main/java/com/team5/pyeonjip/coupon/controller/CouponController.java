@@ -1,6 +1,10 @@
 package com.team5.pyeonjip.coupon.controller;
 
+import com.team5.pyeonjip.coupon.dto.CouponIssueRequest;
+import com.team5.pyeonjip.coupon.dto.CouponIssueResponse;
+import com.team5.pyeonjip.coupon.dto.CouponLookupResponse;
 import com.team5.pyeonjip.coupon.entity.Coupon;
+import com.team5.pyeonjip.coupon.service.CouponLookupService;
 import com.team5.pyeonjip.coupon.service.CouponService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -15,6 +19,7 @@ import java.util.List;
 @RequiredArgsConstructor
 public class CouponController {
     private final CouponService couponService;
+    private final CouponLookupService couponLookupService;
 
     // 랜덤 쿠폰 생성 API
     @PostMapping
@@ -31,6 +36,15 @@ public class CouponController {
         return ResponseEntity.status(HttpStatus.CREATED).body(coupon);
     }
 
+    // 쿠폰 대량 발급 API (관리자)
+    @PostMapping("/bulk")
+    public ResponseEntity<CouponIssueResponse> issueCoupons(
+            @RequestBody CouponIssueRequest request) {
+        CouponIssueResponse response = couponService.issueCoupons(request);
+        // 일부만 발급된 경우 저장된 코드와 에러를 함께 반환 (207)
+        return ResponseEntity.status(response.isComplete() ? HttpStatus.CREATED : HttpStatus.MULTI_STATUS).body(response);
+    }
+
     // 쿠폰 수정
     @PutMapping
     public ResponseEntity<Coupon> updateCoupon(
@@ -45,6 +59,12 @@ public class CouponController {
         return ResponseEntity.status(HttpStatus.OK).body(coupons);
     }
 
+    // 쿠폰 코드 조회 (사용 가능한 쿠폰만, 요청 수 제한)
+    @GetMapping("/lookup")
+    public ResponseEntity<CouponLookupResponse> lookupCoupon(@RequestParam String code) {
+        return ResponseEntity.status(HttpStatus.OK).body(couponLookupService.lookup(code));
+    }
+
     // 쿠폰 삭제
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteCoupon(@PathVariable Long id) {
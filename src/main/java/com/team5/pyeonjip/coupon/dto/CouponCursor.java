@@ -0,0 +1,40 @@
+package com.team5.pyeonjip.coupon.dto;
+
+import com.team5.pyeonjip.global.exception.ErrorCode;
+import com.team5.pyeonjip.global.exception.GlobalException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 관리자 쿠폰 목록 커서 (마지막으로 받은 쿠폰의 정렬 키).
+ * - 클라이언트에는 내부 구조를 알 수 없는 문자열로 전달한다.
+ */
+public record CouponCursor(LocalDateTime expiryDate, Long id) {
+
+    private static final String DELIMITER = "|";
+
+    public static CouponCursor from(CouponListItem item) {
+        return new CouponCursor(item.getExpiryDate(), item.getId());
+    }
+
+    public String encode() {
+        String raw = expiryDate + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static CouponCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + DELIMITER);
+            if (parts.length != 2) {
+                throw new GlobalException(ErrorCode.INVALID_COUPON_CURSOR);
+            }
+            return new CouponCursor(LocalDateTime.parse(parts[0]), Long.parseLong(parts[1]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new GlobalException(ErrorCode.INVALID_COUPON_CURSOR);
+        }
+    }
+}
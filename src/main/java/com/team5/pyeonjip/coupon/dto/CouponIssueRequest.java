@@ -0,0 +1,15 @@
+package com.team5.pyeonjip.coupon.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Getter @Setter
+@NoArgsConstructor
+public class CouponIssueRequest {
+    private Long discount; // 할인율 * 100
+    private int count; // 발급할 쿠폰 수
+    private LocalDateTime expiryDate; // 만료 날짜 (없으면 7일 후)
+}
@@ -0,0 +1,22 @@
+package com.team5.pyeonjip.coupon.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class CouponIssueResponse {
+    private int issued; // 발급된 쿠폰 수
+    private int requested; // 요청한 쿠폰 수
+    private Long discount;
+    private LocalDateTime expiryDate;
+    private List<String> codes; // 발급된 (DB에 저장된) 코드
+    private String error; // 중간에 실패한 경우 에러 코드 (전부 발급되면 null)
+
+    public boolean isComplete() {
+        return error == null;
+    }
+}
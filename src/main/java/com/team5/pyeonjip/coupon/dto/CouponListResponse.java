@@ -0,0 +1,14 @@
+package com.team5.pyeonjip.coupon.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class CouponListResponse {
+    private List<CouponListItem> coupons;
+    private String nextCursor; // 다음 페이지 요청 시 전달 (마지막 페이지면 null)
+    private boolean hasNext;
+}
@@ -0,0 +1,15 @@
+package com.team5.pyeonjip.coupon.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@AllArgsConstructor
+public class CouponLookupResponse {
+    private Long id;
+    private String code;
+    private Long discount; // 할인율 * 100
+    private LocalDateTime expiryDate;
+}
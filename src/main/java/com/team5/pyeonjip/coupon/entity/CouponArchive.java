@@ -0,0 +1,31 @@
+package com.team5.pyeonjip.coupon.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 만료 후 보관 기간이 지나 coupon 테이블에서 옮긴 쿠폰 (id는 원래 쿠폰 id, 사용 기록과 연결)
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "coupon_archive", indexes = @Index(name = "idx_coupon_archive_code", columnList = "code"))
+public class CouponArchive {
+
+    @Id
+    private Long id;
+
+    @Column(nullable = false)
+    private String code;
+
+    @Column(nullable = false)
+    private Long discount; // 할인율 * 100
+
+    @Column(nullable = false)
+    private LocalDateTime expiryDate;
+
+    @Column(nullable = false)
+    private LocalDateTime archivedAt;
+}
@@ -0,0 +1,48 @@
+package com.team5.pyeonjip.coupon.entity;
+
+import com.team5.pyeonjip.global.entity.IdSequence;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+// 쿠폰 사용 기록 (쿠폰 하나당 한 번, 사용한 주문과 연결)
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "coupon_redemption",
+        uniqueConstraints = @UniqueConstraint(name = "uk_coupon_redemption_coupon", columnNames = "coupon_id"),
+        indexes = @Index(name = "idx_coupon_redemption_order", columnList = "order_id"))
+public class CouponRedemption {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "coupon_redemption_id_generator")
+    @TableGenerator(name = "coupon_redemption_id_generator", table = IdSequence.TABLE, pkColumnName = IdSequence.PK_COLUMN,
+            valueColumnName = IdSequence.VALUE_COLUMN, pkColumnValue = "coupon_redemption", allocationSize = IdSequence.ALLOCATION_SIZE)
+    private Long id;
+
+    @Column(name = "coupon_id", nullable = false)
+    private Long couponId;
+
+    @Column(name = "order_id", nullable = false)
+    private Long orderId;
+
+    @Column(nullable = false)
+    private String email;
+
+    @Column(nullable = false)
+    private Long discount; // 사용 시점의 할인율 * 100
+
+    @CreationTimestamp
+    private LocalDateTime redeemedAt;
+
+    public CouponRedemption(Long couponId, Long orderId, String email, Long discount) {
+        this.couponId = couponId;
+        this.orderId = orderId;
+        this.email = email;
+        this.discount = discount;
+    }
+}
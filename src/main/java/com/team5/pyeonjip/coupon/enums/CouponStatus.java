@@ -0,0 +1,7 @@
+package com.team5.pyeonjip.coupon.enums;
+
+public enum CouponStatus {
+    ACTIVE, // 사용 가능 (만료일 빠른순)
+    INACTIVE, // 사용되었거나 비활성화, 만료 전 (만료일 빠른순)
+    EXPIRED, // 만료일이 지남, 활성 여부 무관 (최근 만료순)
+}
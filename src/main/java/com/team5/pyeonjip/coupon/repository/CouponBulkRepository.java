@@ -0,0 +1,40 @@
+package com.team5.pyeonjip.coupon.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 쿠폰 대량 발급용 multi-row INSERT.
+ * - 한 문장으로 여러 행을 넣으므로 중복 코드가 하나라도 있으면 문장 전체가 실패한다. (DuplicateKeyException)
+ */
+@Repository
+@RequiredArgsConstructor
+public class CouponBulkRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 같은 할인율/만료일의 활성 쿠폰을 codes 수만큼 추가, 추가된 행 수 반환
+    public int insertAll(List<String> codes, Long discount, LocalDateTime expiryDate) {
+        if (codes.isEmpty()) {
+            return 0;
+        }
+
+        StringBuilder sql = new StringBuilder("INSERT INTO coupon (code, discount, active, expiry_date) VALUES ");
+        Object[] args = new Object[codes.size() * 4];
+        Timestamp expiry = Timestamp.valueOf(expiryDate);
+
+        for (int i = 0; i < codes.size(); i++) {
+            sql.append(i == 0 ? "(?, ?, ?, ?)" : ", (?, ?, ?, ?)");
+            args[i * 4] = codes.get(i);
+            args[i * 4 + 1] = discount;
+            args[i * 4 + 2] = true;
+            args[i * 4 + 3] = expiry;
+        }
+        return jdbcTemplate.update(sql.toString(), args);
+    }
+}
@@ -0,0 +1,12 @@
+package com.team5.pyeonjip.coupon.repository;
+
+import com.team5.pyeonjip.coupon.entity.CouponRedemption;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface CouponRedemptionRepository extends JpaRepository<CouponRedemption, Long> {
+    Optional<CouponRedemption> findByOrderId(Long orderId);
+}
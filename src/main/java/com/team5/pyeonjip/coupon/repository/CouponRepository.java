@@ -1,9 +1,17 @@
 package com.team5.pyeonjip.coupon.repository;
 
+import com.team5.pyeonjip.coupon.dto.CouponListItem;
 import com.team5.pyeonjip.coupon.entity.Coupon;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -11,4 +19,86 @@ public interface CouponRepository extends JpaRepository<Coupon, Long> {
     Optional<Coupon> findByCode(String code);
 
     boolean existsByCode(String code);
+
+    // 사용 가능한 쿠폰일 때만 비활성화 (조건부 UPDATE 한 번, 동시에 사용하면 한 건만 1을 반환)
+    // 주문 트랜잭션에서 호출되므로 영속성 컨텍스트는 비우지 않는다.
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Coupon c SET c.active = false " +
+            "WHERE c.id = :id AND c.active = true AND c.expiryDate > :now")
+    int deactivateIfRedeemable(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    // 주문 취소 시 만료되지 않은 쿠폰 다시 활성화
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Coupon c SET c.active = true " +
+            "WHERE c.id = :id AND c.active = false AND c.expiryDate > :now")
+    int reactivate(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    // 할인율만 조회
+    @Query("SELECT c.discount FROM Coupon c WHERE c.id = :id")
+    Optional<Long> findDiscountById(@Param("id") Long id);
+
+    /* 관리자 목록 (커서 기반, idx_coupon_active_expiry 범위 조회) */
+
+    String LIST_SELECT = "SELECT new com.team5.pyeonjip.coupon.dto.CouponListItem(c.id, c.code, c.discount, c.active, c.expiryDate) " +
+            "FROM Coupon c WHERE c.discount BETWEEN :minDiscount AND :maxDiscount ";
+
+    // 만료 전 (만료일 빠른순)
+    @Query(LIST_SELECT + "AND c.active = :active AND c.expiryDate > :now ORDER BY c.expiryDate ASC, c.id ASC")
+    List<CouponListItem> findUnexpired(@Param("active") boolean active,
+                                       @Param("minDiscount") Long minDiscount,
+                                       @Param("maxDiscount") Long maxDiscount,
+                                       @Param("now") LocalDateTime now,
+                                       Pageable pageable);
+
+    @Query(LIST_SELECT + "AND c.active = :active AND c.expiryDate > :now " +
+            "AND (c.expiryDate > :expiryDate OR (c.expiryDate = :expiryDate AND c.id > :id)) " +
+            "ORDER BY c.expiryDate ASC, c.id ASC")
+    List<CouponListItem> findUnexpiredAfter(@Param("active") boolean active,
+                                            @Param("minDiscount") Long minDiscount,
+                                            @Param("maxDiscount") Long maxDiscount,
+                                            @Param("now") LocalDateTime now,
+                                            @Param("expiryDate") LocalDateTime expiryDate,
+                                            @Param("id") Long id,
+                                            Pageable pageable);
+
+    // 만료 (최근 만료순, 만료 정리 작업이 아직 비활성화하지 않은 쿠폰 포함)
+    @Query(LIST_SELECT + "AND c.active IN (true, false) AND c.expiryDate <= :now ORDER BY c.expiryDate DESC, c.id DESC")
+    List<CouponListItem> findExpired(@Param("minDiscount") Long minDiscount,
+                                     @Param("maxDiscount") Long maxDiscount,
+                                     @Param("now") LocalDateTime now,
+                                     Pageable pageable);
+
+    @Query(LIST_SELECT + "AND c.active IN (true, false) AND c.expiryDate <= :now " +
+            "AND (c.expiryDate < :expiryDate OR (c.expiryDate = :expiryDate AND c.id < :id)) " +
+            "ORDER BY c.expiryDate DESC, c.id DESC")
+    List<CouponListItem> findExpiredAfter(@Param("minDiscount") Long minDiscount,
+                                          @Param("maxDiscount") Long maxDiscount,
+                                          @Param("now") LocalDateTime now,
+                                          @Param("expiryDate") LocalDateTime expiryDate,
+                                          @Param("id") Long id,
+                                          Pageable pageable);
+
+    /* 만료 정리 작업 */
+
+    // 만료되었지만 아직 활성인 쿠폰
+    @Query("SELECT c.id FROM Coupon c WHERE c.active = true AND c.expiryDate <= :now ORDER BY c.expiryDate")
+    List<Long> findExpiredActiveIds(@Param("now") LocalDateTime now, Pageable pageable);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Coupon c SET c.active = false " +
+            "WHERE c.id IN :ids AND c.active = true AND c.expiryDate <= :now")
+    int deactivateExpired(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    // 보관 기간이 지난 만료 쿠폰
+    @Query("SELECT c.id FROM Coupon c WHERE c.active = false AND c.expiryDate <= :cutoff ORDER BY c.expiryDate")
+    List<Long> findArchivableIds(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+
+    @Modifying
+    @Query(value = "INSERT INTO coupon_archive (id, code, discount, expiry_date, archived_at) " +
+            "SELECT id, code, discount, expiry_date, :now FROM coupon WHERE id IN (:ids)", nativeQuery = true)
+    int copyToArchive(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Coupon c WHERE c.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
 }
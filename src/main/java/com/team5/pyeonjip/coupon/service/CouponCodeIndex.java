@@ -0,0 +1,202 @@
+package com.team5.pyeonjip.coupon.service;
+
+import com.team5.pyeonjip.global.util.BloomFilter;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 발급된 쿠폰 코드의 Bloom 필터.
+ * - 코드 생성 시 이미 쓰인 코드를 걸러내고, 쿠폰 조회 시 없는 코드를 DB 조회 없이 거절하는 데 사용한다. (없다고 나오면 확실히 없는 코드)
+ * - 시작 시 coupon 테이블을 id 순으로 나눠 읽어 채운다. 발급한 코드는 Redis 토픽으로 다른 인스턴스에도 알린다.
+ *   알림을 놓쳐도 rebuild-interval 마다 다시 읽어 맞추며, 발급 중복의 최종 확인은 code 유니크 인덱스가 맡는다.
+ * - Bloom 필터는 값을 뺄 수 없으므로 삭제된 코드는 다음 재생성 전까지 남는다. (조회 시 DB에서 없는 코드로 확인)
+ * - 예상 개수를 넘으면 두 배 크기로 다시 만든다.
+ * - DB 문자열 비교가 대소문자를 구분하지 않으므로 코드는 대문자로 바꿔 넣고 확인한다.
+ */
+@Slf4j
+@Component
+public class CouponCodeIndex {
+
+    private static final int LOAD_PAGE_SIZE = 10_000;
+    private static final String TOPIC = "coupon:codes";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final RedissonClient redissonClient;
+    private final long minCapacity;
+    private final double falsePositiveRate;
+
+    private volatile BloomFilter filter;
+
+    // 재생성 중 추가된 코드 (재생성 중이 아니면 null, this로 동기화)
+    private List<String> rebuildBuffer;
+
+    public CouponCodeIndex(JdbcTemplate jdbcTemplate,
+                           RedissonClient redissonClient,
+                           @Value("${app.coupon.code.bloom.min-capacity:1000000}") long minCapacity,
+                           @Value("${app.coupon.code.bloom.false-positive-rate:0.001}") double falsePositiveRate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.redissonClient = redissonClient;
+        this.minCapacity = minCapacity;
+        this.falsePositiveRate = falsePositiveRate;
+    }
+
+    // 다른 인스턴스에서 발급한 코드 반영
+    @PostConstruct
+    public void subscribe() {
+        topic().addListener(String[].class, (channel, codes) -> putAll(List.of(codes)));
+    }
+
+    // 첫 조회 요청이 필터 생성을 기다리지 않도록 시작 시 미리 채운다.
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        try {
+            filter();
+        } catch (Exception e) {
+            log.warn("[쿠폰 코드 필터]: 초기화 실패, 첫 사용 시 다시 시도", e);
+        }
+    }
+
+    // false면 발급된 적 없는 코드
+    public boolean mightExist(String code) {
+        return filter().mightContain(normalize(code));
+    }
+
+    // 발급한 코드 추가 (다른 인스턴스에도 알림)
+    public void addAll(List<String> codes) {
+        putAll(codes);
+        try {
+            topic().publish(codes.toArray(String[]::new));
+        } catch (Exception e) {
+            log.warn("[쿠폰 코드 필터]: 발급 알림 실패, 다음 재생성 때 반영", e);
+        }
+    }
+
+    public void add(String code) {
+        addAll(List.of(code));
+    }
+
+    // 곧 추가할 코드 수만큼 공간이 있는 필터 반환 (모자라면 다시 만든다)
+    public BloomFilter ensureCapacity(long additional) {
+        BloomFilter current = filter();
+        if (current.approximateCount() + additional <= current.getExpectedInsertions()) {
+            return current;
+        }
+
+        synchronized (this) {
+            current = filter;
+            if (current.approximateCount() + additional > current.getExpectedInsertions()) {
+                filter = current = load(Math.max(current.getExpectedInsertions() * 2, current.approximateCount() + additional));
+            }
+            return current;
+        }
+    }
+
+    // 삭제된 코드 제거, 놓친 발급 알림 반영
+    @Scheduled(initialDelayString = "${app.coupon.code.bloom.rebuild-interval-ms:1800000}",
+            fixedDelayString = "${app.coupon.code.bloom.rebuild-interval-ms:1800000}")
+    public void rebuild() {
+        long capacity;
+        synchronized (this) {
+            if (filter == null || rebuildBuffer != null) {
+                return;
+            }
+            capacity = filter.getExpectedInsertions();
+            rebuildBuffer = new ArrayList<>();
+        }
+
+        // 읽는 동안 추가된 코드는 기존 필터와 rebuildBuffer에 함께 넣고, 교체 직전에 새 필터로 옮긴다.
+        BloomFilter rebuilt = null;
+        try {
+            rebuilt = load(capacity);
+        } finally {
+            synchronized (this) {
+                if (rebuilt != null) {
+                    rebuildBuffer.forEach(rebuilt::put);
+                    filter = rebuilt;
+                }
+                rebuildBuffer = null;
+            }
+        }
+    }
+
+    private void putAll(List<String> codes) {
+        List<String> normalized = new ArrayList<>(codes.size());
+        for (String code : codes) {
+            normalized.add(normalize(code));
+        }
+
+        synchronized (this) {
+            if (rebuildBuffer != null) {
+                rebuildBuffer.addAll(normalized);
+            }
+        }
+
+        BloomFilter current = ensureCapacity(normalized.size());
+        for (String code : normalized) {
+            current.put(code);
+        }
+    }
+
+    private BloomFilter filter() {
+        BloomFilter current = filter;
+        if (current != null) {
+            return current;
+        }
+
+        synchronized (this) {
+            if (filter == null) {
+                filter = load(0);
+            }
+            return filter;
+        }
+    }
+
+    // coupon 테이블의 코드를 읽어 새 필터 생성 (capacity: 최소 크기)
+    private BloomFilter load(long capacity) {
+        long startedAt = System.currentTimeMillis();
+
+        Long total = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM coupon", Long.class);
+        long existing = total == null ? 0L : total;
+        BloomFilter loaded = new BloomFilter(Math.max(minCapacity, Math.max(capacity, existing * 2)), falsePositiveRate);
+
+        long lastId = 0L;
+        while (true) {
+            List<Object[]> rows = jdbcTemplate.query(
+                    "SELECT id, code FROM coupon WHERE id > ? ORDER BY id LIMIT ?",
+                    (rs, rowNum) -> new Object[]{rs.getLong(1), rs.getString(2)},
+                    lastId, LOAD_PAGE_SIZE);
+
+            for (Object[] row : rows) {
+                loaded.put(normalize((String) row[1]));
+            }
+            if (rows.size() < LOAD_PAGE_SIZE) {
+                break;
+            }
+            lastId = (Long) rows.getLast()[0];
+        }
+
+        log.info("[쿠폰 코드 필터]: 코드 {}개, 용량 {}, {}ms",
+                loaded.approximateCount(), loaded.getExpectedInsertions(), System.currentTimeMillis() - startedAt);
+        return loaded;
+    }
+
+    private RTopic topic() {
+        return redissonClient.getTopic(TOPIC);
+    }
+
+    private static String normalize(String code) {
+        return code.trim().toUpperCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,135 @@
+package com.team5.pyeonjip.coupon.service;
+
+import com.team5.pyeonjip.coupon.repository.CouponRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 쿠폰 만료 정리 작업 (app.coupon.lifecycle.enabled).
+ * - 만료되었지만 아직 활성인 쿠폰을 비활성화한다.
+ * - 만료 후 archive-after-days가 지난 쿠폰은 coupon_archive로 옮기고 coupon 테이블에서 지운다.
+ * - 청크마다 짧은 트랜잭션으로 처리하고 청크 사이에 쉬며, 한 번 실행에 처리하는 청크 수를 제한한다.
+ * - 여러 인스턴스에서 동시에 실행되지 않도록 Redisson 락을 잡은 인스턴스만 실행한다.
+ */
+@Slf4j
+@Component
+public class CouponLifecycleJob {
+
+    private static final String LOCK_KEY = "lock:coupon:lifecycle";
+
+    private final CouponRepository couponRepository;
+    private final RedissonClient redissonClient;
+    private final TransactionTemplate transactionTemplate;
+
+    private final boolean enabled;
+    private final Duration archiveAfter;
+    private final int chunkSize;
+    private final long pauseMs;
+    private final int maxChunks;
+
+    public CouponLifecycleJob(CouponRepository couponRepository,
+                              RedissonClient redissonClient,
+                              TransactionTemplate transactionTemplate,
+                              @Value("${app.coupon.lifecycle.enabled:true}") boolean enabled,
+                              @Value("${app.coupon.lifecycle.archive-after-days:30}") long archiveAfterDays,
+                              @Value("${app.coupon.lifecycle.chunk-size:1000}") int chunkSize,
+                              @Value("${app.coupon.lifecycle.pause-ms:100}") long pauseMs,
+                              @Value("${app.coupon.lifecycle.max-chunks:100}") int maxChunks) {
+        this.couponRepository = couponRepository;
+        this.redissonClient = redissonClient;
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = enabled;
+        this.archiveAfter = Duration.ofDays(archiveAfterDays);
+        this.chunkSize = chunkSize;
+        this.pauseMs = pauseMs;
+        this.maxChunks = maxChunks;
+    }
+
+    @Scheduled(initialDelayString = "${app.coupon.lifecycle.initial-delay-ms:60000}",
+            fixedDelayString = "${app.coupon.lifecycle.interval-ms:600000}")
+    public void run() {
+        if (!enabled) {
+            return;
+        }
+
+        RLock lock = redissonClient.getLock(LOCK_KEY);
+        if (!lock.tryLock()) {
+            log.debug("[쿠폰 만료 정리]: 다른 인스턴스에서 실행 중");
+            return;
+        }
+
+        try {
+            int deactivated = deactivateExpired();
+            int archived = archiveExpired();
+            log.info("[쿠폰 만료 정리]: 비활성화 {}건, 보관 {}건", deactivated, archived);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            if (lock.isHeldByCurrentThread()) {
+                lock.unlock();
+            }
+        }
+    }
+
+    private int deactivateExpired() throws InterruptedException {
+        LocalDateTime now = LocalDateTime.now();
+
+        int total = 0;
+        for (int chunk = 0; chunk < maxChunks; chunk++) {
+            List<Long> ids = couponRepository.findExpiredActiveIds(now, PageRequest.of(0, chunkSize));
+            if (ids.isEmpty()) {
+                break;
+            }
+
+            Integer updated = transactionTemplate.execute(status -> couponRepository.deactivateExpired(ids, now));
+            total += Objects.requireNonNullElse(updated, 0);
+            if (ids.size() < chunkSize) {
+                break;
+            }
+            pause();
+        }
+        return total;
+    }
+
+    // 보관 테이블에 복사 후 삭제 (같은 트랜잭션)
+    private int archiveExpired() throws InterruptedException {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime cutoff = now.minus(archiveAfter);
+
+        int total = 0;
+        for (int chunk = 0; chunk < maxChunks; chunk++) {
+            List<Long> ids = couponRepository.findArchivableIds(cutoff, PageRequest.of(0, chunkSize));
+            if (ids.isEmpty()) {
+                break;
+            }
+
+            Integer archived = transactionTemplate.execute(status -> {
+                couponRepository.copyToArchive(ids, now);
+                return couponRepository.deleteByIdIn(ids);
+            });
+            total += Objects.requireNonNullElse(archived, 0);
+            if (ids.size() < chunkSize) {
+                break;
+            }
+            pause();
+        }
+        return total;
+    }
+
+    private void pause() throws InterruptedException {
+        if (pauseMs > 0) {
+            Thread.sleep(pauseMs);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.team5.pyeonjip.coupon.service;
+
+import com.team5.pyeonjip.coupon.dto.CouponLookupResponse;
+import com.team5.pyeonjip.coupon.entity.Coupon;
+import com.team5.pyeonjip.coupon.repository.CouponRepository;
+import com.team5.pyeonjip.global.exception.ErrorCode;
+import com.team5.pyeonjip.global.exception.GlobalException;
+import com.team5.pyeonjip.global.util.TransactionUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 쿠폰 코드 조회 (결제 화면 쿠폰 확인).
+ * - 발급된 적 없는 코드는 Bloom 필터에서 바로 거절하므로 무작위 코드 대입은 DB까지 가지 않는다.
+ * - 필터를 통과한 코드는 TTL 캐시를 먼저 보고, 없으면 DB에서 읽어 캐시한다. (없는 코드도 캐시)
+ * - 쿠폰 수정/삭제/사용 시 커밋 이후 캐시를 비우므로 TTL은 다른 인스턴스의 변경에 대한 최대 지연이다.
+ *   실제 사용 가능 여부는 주문 시 조건부 UPDATE로 다시 확인한다.
+ */
+@Service
+public class CouponLookupService {
+
+    private final CouponRepository couponRepository;
+    private final CouponCodeIndex couponCodeIndex;
+    private final long ttlNanos;
+    private final int maxEntries;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    public CouponLookupService(CouponRepository couponRepository,
+                               CouponCodeIndex couponCodeIndex,
+                               @Value("${app.coupon.lookup.ttl-ms:5000}") long ttlMs,
+                               @Value("${app.coupon.lookup.max-entries:10000}") int maxEntries) {
+        this.couponRepository = couponRepository;
+        this.couponCodeIndex = couponCodeIndex;
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMs);
+        this.maxEntries = maxEntries;
+    }
+
+    // 사용 가능한 쿠폰 조회
+    public CouponLookupResponse lookup(String code) {
+        if (code == null || code.isBlank() || !couponCodeIndex.mightExist(code)) {
+            throw new GlobalException(ErrorCode.COUPON_NOT_FOUND);
+        }
+
+        String key = normalize(code);
+        long now = System.nanoTime();
+
+        Entry entry = entries.get(key);
+        if (entry == null || now - entry.loadedAt() >= ttlNanos) {
+            if (entries.size() >= maxEntries) {
+                entries.clear();
+            }
+            entry = new Entry(couponRepository.findByCode(key).map(Snapshot::of).orElse(null), now);
+            entries.put(key, entry);
+        }
+
+        Snapshot coupon = entry.coupon();
+        if (coupon == null) {
+            throw new GlobalException(ErrorCode.COUPON_NOT_FOUND);
+        }
+        if (!coupon.active() || !coupon.expiryDate().isAfter(LocalDateTime.now())) {
+            throw new GlobalException(ErrorCode.COUPON_NOT_REDEEMABLE);
+        }
+        return new CouponLookupResponse(coupon.id(), coupon.code(), coupon.discount(), coupon.expiryDate());
+    }
+
+    // 쿠폰 변경 시 호출 (커밋 이후 적용)
+    public void evict(String code) {
+        if (code == null) {
+            return;
+        }
+        String key = normalize(code);
+        TransactionUtils.afterCommit(() -> entries.remove(key));
+    }
+
+    // 코드를 모를 때 (쿠폰 사용 등)
+    public void evictById(Long couponId) {
+        TransactionUtils.afterCommit(() -> entries.values()
+                .removeIf(entry -> entry.coupon() != null && entry.coupon().id().equals(couponId)));
+    }
+
+    private static String normalize(String code) {
+        return code.trim().toUpperCase(Locale.ROOT);
+    }
+
+    // 없는 코드면 coupon은 null
+    private record Entry(Snapshot coupon, long loadedAt) {
+    }
+
+    private record Snapshot(Long id, String code, Long discount, boolean active, LocalDateTime expiryDate) {
+        private static Snapshot of(Coupon coupon) {
+            return new Snapshot(coupon.getId(), coupon.getCode(), coupon.getDiscount(), coupon.isActive(), coupon.getExpiryDate());
+        }
+    }
+}
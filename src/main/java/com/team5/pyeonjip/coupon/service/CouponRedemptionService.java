@@ -0,0 +1,112 @@
+package com.team5.pyeonjip.coupon.service;
+
+import com.team5.pyeonjip.coupon.entity.Coupon;
+import com.team5.pyeonjip.coupon.entity.CouponRedemption;
+import com.team5.pyeonjip.coupon.repository.CouponRedemptionRepository;
+import com.team5.pyeonjip.coupon.repository.CouponRepository;
+import com.team5.pyeonjip.global.exception.ErrorCode;
+import com.team5.pyeonjip.global.exception.GlobalException;
+import com.team5.pyeonjip.global.util.TransactionUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RBucket;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 쿠폰 사용 처리.
+ * - DB에서는 조건부 UPDATE 한 번으로 사용 가능 여부 확인과 비활성화를 함께 처리하므로 동시에 요청해도 한 번만 사용된다.
+ * - fast-path 사용 시 Redis 표식(SET NX)을 먼저 잡아 같은 쿠폰의 동시 요청 중 하나만 DB로 보내고 나머지는 바로 실패시킨다.
+ *   (쿠폰을 한꺼번에 뿌렸을 때 같은 행의 락 대기가 쌓이지 않도록)
+ * - 주문 트랜잭션 안에서 호출되며, 주문이 롤백되면 쿠폰 상태와 Redis 표식도 함께 되돌아간다.
+ *   주문 취소(release)가 커밋되면 표식도 지워 다시 활성화된 쿠폰을 바로 사용할 수 있게 한다.
+ */
+@Slf4j
+@Service
+public class CouponRedemptionService {
+
+    private static final String MARKER_KEY = "coupon:redeem:";
+
+    private final CouponRepository couponRepository;
+    private final CouponRedemptionRepository couponRedemptionRepository;
+    private final RedissonClient redissonClient;
+    private final CouponLookupService couponLookupService;
+    private final boolean fastPath;
+    private final Duration markerTtl;
+
+    public CouponRedemptionService(CouponRepository couponRepository,
+                                   CouponRedemptionRepository couponRedemptionRepository,
+                                   RedissonClient redissonClient,
+                                   CouponLookupService couponLookupService,
+                                   @Value("${app.coupon.redeem.fast-path:true}") boolean fastPath,
+                                   @Value("${app.coupon.redeem.marker-ttl-seconds:30}") long markerTtlSeconds) {
+        this.couponRepository = couponRepository;
+        this.couponRedemptionRepository = couponRedemptionRepository;
+        this.redissonClient = redissonClient;
+        this.couponLookupService = couponLookupService;
+        this.fastPath = fastPath;
+        this.markerTtl = Duration.ofSeconds(markerTtlSeconds);
+    }
+
+    // 쿠폰을 사용 처리하고 할인율(* 100) 반환
+    @Transactional
+    public long redeem(Long couponId, String email) {
+        if (fastPath) {
+            RBucket<String> marker = redissonClient.getBucket(MARKER_KEY + couponId, StringCodec.INSTANCE);
+            if (!marker.setIfAbsent(email, markerTtl)) {
+                throw new GlobalException(ErrorCode.COUPON_NOT_REDEEMABLE);
+            }
+            TransactionUtils.afterRollback(marker::delete);
+        }
+
+        if (couponRepository.deactivateIfRedeemable(couponId, LocalDateTime.now()) == 0) {
+            if (!couponRepository.existsById(couponId)) {
+                throw new GlobalException(ErrorCode.COUPON_NOT_FOUND);
+            }
+            throw new GlobalException(ErrorCode.COUPON_NOT_REDEEMABLE);
+        }
+        couponLookupService.evictById(couponId);
+
+        return couponRepository.findDiscountById(couponId)
+                .orElseThrow(() -> new GlobalException(ErrorCode.COUPON_NOT_FOUND));
+    }
+
+    // 사용 기록 저장 (redeem 과 같은 트랜잭션에서 주문 저장 후 호출)
+    @Transactional
+    public void record(Long couponId, Long orderId, String email, long discount) {
+        couponRedemptionRepository.save(new CouponRedemption(couponId, orderId, email, discount));
+    }
+
+    // 주문 미리보기용 할인율 (사용 처리하지 않음)
+    @Transactional(readOnly = true)
+    public long preview(Long couponId) {
+        Coupon coupon = couponRepository.findById(couponId)
+                .orElseThrow(() -> new GlobalException(ErrorCode.COUPON_NOT_FOUND));
+
+        if (!coupon.isActive() || !coupon.getExpiryDate().isAfter(LocalDateTime.now())) {
+            throw new GlobalException(ErrorCode.COUPON_NOT_REDEEMABLE);
+        }
+        return coupon.getDiscount();
+    }
+
+    // 주문 취소 시 사용 기록을 지우고 만료되지 않았다면 다시 사용할 수 있게 한다.
+    @Transactional
+    public void release(Long orderId) {
+        couponRedemptionRepository.findByOrderId(orderId).ifPresent(redemption -> {
+            couponRedemptionRepository.delete(redemption);
+            int reactivated = couponRepository.reactivate(redemption.getCouponId(), LocalDateTime.now());
+            couponLookupService.evictById(redemption.getCouponId());
+            if (fastPath) {
+                // 표식이 남아 있으면 다시 활성화된 쿠폰도 만료될 때까지 바로 실패하므로 커밋 후 지운다.
+                RBucket<String> marker = redissonClient.getBucket(MARKER_KEY + redemption.getCouponId(), StringCodec.INSTANCE);
+                TransactionUtils.afterCommit(marker::delete);
+            }
+            log.debug("[쿠폰 사용 취소]: 주문 {}, 쿠폰 {}, 재활성화 {}", orderId, redemption.getCouponId(), reactivated);
+        });
+    }
+}
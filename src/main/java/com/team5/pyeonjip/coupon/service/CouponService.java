@@ -1,24 +1,65 @@
 package com.team5.pyeonjip.coupon.service;
 
+import com.team5.pyeonjip.coupon.dto.CouponCursor;
+import com.team5.pyeonjip.coupon.dto.CouponIssueRequest;
+import com.team5.pyeonjip.coupon.dto.CouponIssueResponse;
+import com.team5.pyeonjip.coupon.dto.CouponListItem;
+import com.team5.pyeonjip.coupon.dto.CouponListResponse;
 import com.team5.pyeonjip.coupon.entity.Coupon;
+import com.team5.pyeonjip.coupon.enums.CouponStatus;
+import com.team5.pyeonjip.coupon.repository.CouponBulkRepository;
 import com.team5.pyeonjip.coupon.repository.CouponRepository;
+import com.team5.pyeonjip.coupon.utils.CouponCodeGenerator;
 import com.team5.pyeonjip.global.exception.ErrorCode;
 import com.team5.pyeonjip.global.exception.GlobalException;
-import lombok.RequiredArgsConstructor;
+import com.team5.pyeonjip.global.util.TransactionUtils;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Optional;
-import java.util.UUID;
+import java.util.Set;
 
 @Service
 @Slf4j
-@RequiredArgsConstructor
 public class CouponService {
+    // 한 청크의 코드가 다른 인스턴스에서 발급한 코드와 겹쳤을 때 다시 만드는 횟수
+    private static final int MAX_CHUNK_ATTEMPTS = 5;
+    private static final int MAX_LIST_SIZE = 100;
+    // 코드 공간 중 발급해도 되는 비율 (넘으면 무작위 코드가 계속 겹쳐 발급이 끝나지 않음)
+    private static final double MAX_CODE_SPACE_USAGE = 0.5;
+
     private final CouponRepository couponRepository;
+    private final CouponBulkRepository couponBulkRepository;
+    private final CouponCodeGenerator couponCodeGenerator;
+    private final CouponCodeIndex couponCodeIndex;
+    private final CouponLookupService couponLookupService;
+    private final int maxIssueCount;
+    private final int issueChunkSize;
+
+    public CouponService(CouponRepository couponRepository,
+                         CouponBulkRepository couponBulkRepository,
+                         CouponCodeGenerator couponCodeGenerator,
+                         CouponCodeIndex couponCodeIndex,
+                         CouponLookupService couponLookupService,
+                         @Value("${app.coupon.issue.max-count:1000000}") int maxIssueCount,
+                         @Value("${app.coupon.issue.chunk-size:1000}") int issueChunkSize) {
+        this.couponRepository = couponRepository;
+        this.couponBulkRepository = couponBulkRepository;
+        this.couponCodeGenerator = couponCodeGenerator;
+        this.couponCodeIndex = couponCodeIndex;
+        this.couponLookupService = couponLookupService;
+        this.maxIssueCount = maxIssueCount;
+        this.issueChunkSize = issueChunkSize;
+    }
 
     // 랜덤 쿠폰 생성
     @Transactional
@@ -31,49 +72,177 @@ public class CouponService {
 
         validateDiscount(discount);
         validateCouponCode(coupon.getCode());
-        return couponRepository.save(coupon);
+        return saveAndIndex(coupon);
     }
     // 사용자 지정 쿠폰 생성
     @Transactional
     public Coupon createCoupon(Coupon coupon){
         validateDiscount(coupon.getDiscount());
         validateCouponCode(coupon.getCode());
-        return couponRepository.save(coupon);
+        return saveAndIndex(coupon);
+    }
+
+    /**
+     * 쿠폰 대량 발급.
+     * - 청크마다 Bloom 필터로 발급된 적 없는 코드만 골라 multi-row INSERT 한 문장으로 넣는다. (청크별 커밋)
+     * - 다른 인스턴스가 발급한 코드와 겹치면 유니크 인덱스에서 청크 전체가 실패하므로 새 코드로 다시 시도한다.
+     * - 코드 공간이 모자라면 아무것도 넣기 전에 거절한다.
+     * - 그래도 중간 청크가 실패하면 이미 커밋된 청크의 코드와 에러 코드를 함께 반환한다. (발급된 쿠폰을 호출자가 알 수 있도록)
+     */
+    public CouponIssueResponse issueCoupons(CouponIssueRequest request) {
+        validateDiscount(request.getDiscount());
+        if (request.getCount() <= 0 || request.getCount() > maxIssueCount) {
+            throw new GlobalException(ErrorCode.INVALID_COUPON_ISSUE_COUNT);
+        }
+
+        LocalDateTime expiryDate = request.getExpiryDate() != null
+                ? request.getExpiryDate()
+                : LocalDateTime.now().plusDays(7);
+        long startedAt = System.currentTimeMillis();
+
+        if (couponRepository.count() + request.getCount() > couponCodeGenerator.codeSpace() * MAX_CODE_SPACE_USAGE) {
+            throw new GlobalException(ErrorCode.COUPON_CODE_EXHAUSTED);
+        }
+
+        couponCodeIndex.ensureCapacity(request.getCount());
+
+        List<String> issued = new ArrayList<>(request.getCount());
+        Set<String> seen = new HashSet<>(request.getCount() * 2);
+        try {
+            while (issued.size() < request.getCount()) {
+                int size = Math.min(issueChunkSize, request.getCount() - issued.size());
+                issued.addAll(insertChunk(size, request.getDiscount(), expiryDate, seen));
+            }
+        } catch (GlobalException | DataAccessException e) {
+            if (issued.isEmpty()) {
+                throw e;
+            }
+
+            ErrorCode error = e instanceof GlobalException globalException
+                    ? globalException.getErrorCode()
+                    : ErrorCode.COUPON_ISSUE_FAILED;
+            log.warn("[쿠폰 대량 발급]: {}/{}개 발급 후 실패", issued.size(), request.getCount(), e);
+            return new CouponIssueResponse(issued.size(), request.getCount(), request.getDiscount(), expiryDate, issued, error.getCode());
+        }
+
+        log.info("[쿠폰 대량 발급]: {}개, {}ms", issued.size(), System.currentTimeMillis() - startedAt);
+        return new CouponIssueResponse(issued.size(), request.getCount(), request.getDiscount(), expiryDate, issued, null);
+    }
+
+    private List<String> insertChunk(int size, Long discount, LocalDateTime expiryDate, Set<String> seen) {
+        for (int attempt = 1; attempt <= MAX_CHUNK_ATTEMPTS; attempt++) {
+            List<String> codes = nextCodes(size, seen);
+            try {
+                couponBulkRepository.insertAll(codes, discount, expiryDate);
+                couponCodeIndex.addAll(codes);
+                return codes;
+            } catch (DuplicateKeyException e) {
+                log.warn("[쿠폰 대량 발급]: 코드 중복으로 청크 재시도 {}/{}", attempt, MAX_CHUNK_ATTEMPTS);
+            }
+        }
+        throw new GlobalException(ErrorCode.COUPON_CODE_EXHAUSTED);
+    }
+
+    // 발급된 적 없고 이번 발급에서도 쓰지 않은 코드 size개
+    private List<String> nextCodes(int size, Set<String> seen) {
+        List<String> codes = new ArrayList<>(size);
+        // 코드 길이에 비해 발급 수가 너무 많으면 끝나지 않으므로 시도 횟수 제한
+        for (long tries = 0; codes.size() < size; tries++) {
+            if (tries > (long) size * 100) {
+                throw new GlobalException(ErrorCode.COUPON_CODE_EXHAUSTED);
+            }
+
+            String code = couponCodeGenerator.next();
+            if (!couponCodeIndex.mightExist(code) && seen.add(code)) {
+                codes.add(code);
+            }
+        }
+        return codes;
     }
 
-    // 쿠폰 활성화/비활성화
+    // 쿠폰 사용 처리 (조건부 UPDATE 한 번, 이미 사용되었거나 만료된 쿠폰은 실패)
     @Transactional
     public void useCoupon(Long id) {
-        Coupon coupon = couponRepository.findById(id)
-                .orElseThrow(() -> new GlobalException(ErrorCode.COUPON_NOT_FOUND));
-        coupon.setActive(false);
-        couponRepository.save(coupon);
+        if (couponRepository.deactivateIfRedeemable(id, LocalDateTime.now()) == 0) {
+            if (!couponRepository.existsById(id)) {
+                throw new GlobalException(ErrorCode.COUPON_NOT_FOUND);
+            }
+            throw new GlobalException(ErrorCode.COUPON_NOT_REDEEMABLE);
+        }
+        couponLookupService.evictById(id);
     }
 
     public Coupon updateCoupon(Coupon coupon) {
         Coupon target = couponRepository.findById(coupon.getId())
                 .orElseThrow(() -> new GlobalException(ErrorCode.CART_NOT_FOUND));
+        couponLookupService.evict(target.getCode());
         target.setCode(coupon.getCode());
         target.setDiscount(coupon.getDiscount());
         target.setExpiryDate(coupon.getExpiryDate());
         target.setActive(coupon.isActive());
-        return couponRepository.save(target);
+        return saveAndIndex(target);
     }
 
     public List<Coupon> getAllCoupons() {
         return couponRepository.findAll();
     }
 
-    public void deleteCouponById(Long id) {
-        if(!couponRepository.existsById(id)) {
-            throw new GlobalException(ErrorCode.COUPON_NOT_FOUND);
+    // 관리자 쿠폰 목록 (상태/할인율 필터, 커서 기반 페이지네이션)
+    @Transactional(readOnly = true)
+    public CouponListResponse getCoupons(CouponStatus status, Long minDiscount, Long maxDiscount, String cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_LIST_SIZE));
+        long min = minDiscount == null ? 0L : minDiscount;
+        long max = maxDiscount == null ? 100L : maxDiscount;
+        LocalDateTime now = LocalDateTime.now();
+
+        // 다음 페이지 존재 여부 확인을 위해 하나 더 조회
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+        CouponCursor after = cursor == null || cursor.isBlank() ? null : CouponCursor.decode(cursor);
+
+        List<CouponListItem> items = switch (status) {
+            case ACTIVE, INACTIVE -> {
+                boolean active = status == CouponStatus.ACTIVE;
+                yield after == null
+                        ? couponRepository.findUnexpired(active, min, max, now, limit)
+                        : couponRepository.findUnexpiredAfter(active, min, max, now, after.expiryDate(), after.id(), limit);
+            }
+            // 만료일이 지났으면 active와 무관하게 만료 (정리 작업 전이라 아직 활성인 쿠폰 포함)
+            case EXPIRED -> after == null
+                    ? couponRepository.findExpired(min, max, now, limit)
+                    : couponRepository.findExpiredAfter(min, max, now, after.expiryDate(), after.id(), limit);
+        };
+
+        boolean hasNext = items.size() > pageSize;
+        if (hasNext) {
+            items = items.subList(0, pageSize);
         }
-        couponRepository.deleteById(id);
+
+        String nextCursor = hasNext ? CouponCursor.from(items.getLast()).encode() : null;
+        return new CouponListResponse(items, nextCursor, hasNext);
     }
 
-    // 쿠폰 코드 자동 생성
+    public void deleteCouponById(Long id) {
+        Coupon coupon = couponRepository.findById(id)
+                .orElseThrow(() -> new GlobalException(ErrorCode.COUPON_NOT_FOUND));
+        couponRepository.delete(coupon);
+        couponLookupService.evict(coupon.getCode());
+    }
+
+    // 쿠폰 코드 자동 생성 (발급된 적 없는 코드)
     public String generateCouponCode() {
-        return UUID.randomUUID().toString().substring(0, 4).toUpperCase();
+        String code;
+        do {
+            code = couponCodeGenerator.next();
+        } while (couponCodeIndex.mightExist(code));
+        return code;
+    }
+
+    // 저장 후 커밋되면 코드 필터에 추가
+    private Coupon saveAndIndex(Coupon coupon) {
+        Coupon saved = couponRepository.save(coupon);
+        TransactionUtils.afterCommit(() -> couponCodeIndex.add(saved.getCode()));
+        couponLookupService.evict(saved.getCode());
+        return saved;
     }
 
     private void validateDiscount(Long discount) {
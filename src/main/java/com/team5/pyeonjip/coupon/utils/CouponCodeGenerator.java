@@ -0,0 +1,71 @@
+package com.team5.pyeonjip.coupon.utils;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+
+/**
+ * 쿠폰 코드 생성기.
+ * - 설정한 문자 집합과 길이로 코드를 만든다. (기본 32자 * 12자리 = 2^60가지, 헷갈리는 0/O, 1/I 제외)
+ * - 코드를 추측할 수 없도록 SecureRandom을 쓰되, 엔트로피 대기로 멈추지 않는 NativePRNGNonBlocking을 스레드별로 사용한다.
+ */
+@Component
+public class CouponCodeGenerator {
+
+    private final char[] alphabet;
+    private final int length;
+
+    private final ThreadLocal<SecureRandom> random = ThreadLocal.withInitial(CouponCodeGenerator::nonBlockingRandom);
+
+    public CouponCodeGenerator(@Value("${app.coupon.code.alphabet:23456789ABCDEFGHJKLMNPQRSTUVWXYZ}") String alphabet,
+                               @Value("${app.coupon.code.length:12}") int length) {
+        if (alphabet.chars().distinct().count() != alphabet.length()
+                || alphabet.length() < 2 || alphabet.length() > 256) {
+            throw new IllegalArgumentException("쿠폰 코드 문자 집합은 서로 다른 문자 2~256개여야 합니다: " + alphabet);
+        }
+        if (length < 4) {
+            throw new IllegalArgumentException("쿠폰 코드 길이는 4 이상이어야 합니다: " + length);
+        }
+        this.alphabet = alphabet.toCharArray();
+        this.length = length;
+    }
+
+    // 만들 수 있는 코드 수 (문자 수 ^ 길이)
+    public double codeSpace() {
+        return Math.pow(alphabet.length, length);
+    }
+
+    public String next() {
+        SecureRandom source = random.get();
+
+        // 난수는 바이트 단위로 한 번에 받고, 치우침이 생기는 값(256을 문자 수로 나눈 나머지 구간)은 버린다.
+        int limit = 256 - 256 % alphabet.length;
+        byte[] buffer = new byte[length * 2];
+        int position = buffer.length;
+
+        char[] code = new char[length];
+        for (int i = 0; i < length; ) {
+            if (position == buffer.length) {
+                source.nextBytes(buffer);
+                position = 0;
+            }
+
+            int value = buffer[position++] & 0xFF;
+            if (value < limit) {
+                code[i++] = alphabet[value % alphabet.length];
+            }
+        }
+        return new String(code);
+    }
+
+    private static SecureRandom nonBlockingRandom() {
+        try {
+            return SecureRandom.getInstance("NativePRNGNonBlocking");
+        } catch (NoSuchAlgorithmException e) {
+            // Windows 등 지원하지 않는 환경
+            return new SecureRandom();
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.team5.pyeonjip.global.cache;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * 상품/카테고리 GET 요청의 조건부 응답 처리.
+ * - If-None-Match가 현재 버전과 같으면 컨트롤러를 실행하지 않고 바로 304를 반환한다.
+ * - 그 외에는 ETag를 붙여 정상 처리하며, 클라이언트는 매번 재검증(no-cache)한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CatalogEtagInterceptor implements HandlerInterceptor {
+
+    private static final String PRODUCT_PATH = "/api/products/";
+    private static final String CATEGORY_PATH = "/api/category";
+    private static final String CATEGORY_MENU_PATH = "/api/category/menu";
+
+    private final CatalogVersionRegistry catalogVersionRegistry;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!"GET".equals(request.getMethod())) {
+            return true;
+        }
+
+        String etag = resolveEtag(request.getRequestURI().substring(request.getContextPath().length()));
+        if (etag == null) {
+            return true;
+        }
+
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+
+        if (matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return false;
+        }
+        return true;
+    }
+
+    private String resolveEtag(String path) {
+        if (path.equals(CATEGORY_MENU_PATH)) {
+            return catalogVersionRegistry.categoryMenuEtag();
+        }
+
+        if (path.startsWith(CATEGORY_PATH)) {
+            return catalogVersionRegistry.categoryEtag();
+        }
+
+        if (!path.startsWith(PRODUCT_PATH)) {
+            return null;
+        }
+
+        // /api/products/{productId}, /api/products/{productId}/details, /api/products/{productId}/images
+        String[] segments = path.substring(PRODUCT_PATH.length()).split("/");
+
+        // 이미지 파일은 자체 ETag를 사용
+        if (segments[0].equals("images")) {
+            return null;
+        }
+
+        if (isNumber(segments[0])) {
+            return catalogVersionRegistry.productEtag(Long.parseLong(segments[0]));
+        }
+
+        // 목록 조회
+        return catalogVersionRegistry.productListEtag();
+    }
+
+    private boolean isNumber(String value) {
+        if (value.isEmpty() || value.length() > 18) {
+            return false;
+        }
+
+        for (int i = 0; i < value.length(); i++) {
+            if (!Character.isDigit(value.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.equals("*") || value.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
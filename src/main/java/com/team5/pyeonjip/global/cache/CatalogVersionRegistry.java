@@ -0,0 +1,78 @@
+package com.team5.pyeonjip.global.cache;
+
+import com.team5.pyeonjip.global.util.TransactionUtils;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 상품/카테고리 조회 응답의 ETag 생성을 위한 버전 관리.
+ * - 데이터가 바뀌는 쓰기 작업은 커밋 이후 해당 버전을 올리고, 조회 요청은 DB를 거치지 않고 버전만으로 ETag를 만든다.
+ * - 서버 시작 시각(epoch)을 ETag에 포함하므로 재시작하면 이전 ETag는 모두 무효가 된다.
+ * - 버전은 서버 메모리에만 있으므로 단일 인스턴스 배포를 전제로 한다.
+ */
+@Component
+public class CatalogVersionRegistry {
+
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+
+    // 모든 상품 응답에 영향을 주는 변경 (카테고리 삭제로 상품의 카테고리가 바뀌는 경우 등)
+    private final AtomicLong productGeneration = new AtomicLong();
+
+    // 상품 목록 응답 버전 (어떤 상품이든 바뀌면 증가)
+    private final AtomicLong productListVersion = new AtomicLong();
+
+    // 카테고리 응답 버전
+    private final AtomicLong categoryVersion = new AtomicLong();
+
+    // 상품별 버전
+    private final Map<Long, AtomicLong> productVersions = new ConcurrentHashMap<>();
+
+    public String productEtag(Long productId) {
+        AtomicLong version = productVersions.get(productId);
+        return etag("p" + productId, version != null ? version.get() : 0L, productGeneration.get());
+    }
+
+    public String productListEtag() {
+        return etag("pl", productListVersion.get(), productGeneration.get());
+    }
+
+    public String categoryEtag() {
+        return etag("c", categoryVersion.get(), 0L);
+    }
+
+    // 카테고리 메뉴는 상품 수를 포함하므로 상품 변경에도 갱신
+    public String categoryMenuEtag() {
+        return etag("cm" + categoryVersion.get(), productListVersion.get(), productGeneration.get());
+    }
+
+    // 상품(옵션, 이미지, 재고 포함) 변경
+    public void productChanged(Long productId) {
+        TransactionUtils.afterCommit(() -> {
+            productVersions.computeIfAbsent(productId, id -> new AtomicLong()).incrementAndGet();
+            productListVersion.incrementAndGet();
+        });
+    }
+
+    // 카테고리 변경 (카테고리별 상품 목록도 달라질 수 있음)
+    public void categoryChanged() {
+        TransactionUtils.afterCommit(() -> {
+            categoryVersion.incrementAndGet();
+            productListVersion.incrementAndGet();
+        });
+    }
+
+    // 여러 상품이 한 번에 바뀌는 변경
+    public void allProductsChanged() {
+        TransactionUtils.afterCommit(() -> {
+            productGeneration.incrementAndGet();
+            productListVersion.incrementAndGet();
+        });
+    }
+
+    private String etag(String scope, long version, long generation) {
+        return "\"" + epoch + "-" + generation + "-" + scope + "-" + version + "\"";
+    }
+}
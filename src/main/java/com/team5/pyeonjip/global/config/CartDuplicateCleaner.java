@@ -0,0 +1,73 @@
+package com.team5.pyeonjip.global.config;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.orm.jpa.EntityManagerFactoryDependsOnPostProcessor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * cart 테이블 (email, option_id) 유니크 제약(uk_cart_email_option) 추가 전 중복 행 정리.
+ * - 제약은 ddl-auto=update로 추가되는데, 중복 행이 있으면 ALTER가 실패하고 Hibernate는 로그만 남기므로 제약 없이 기동된다.
+ * - 스키마 갱신보다 먼저 실행되도록 EntityManagerFactory가 이 빈에 의존하게 한다. (그래서 JPA 빈은 사용하지 않음)
+ * - 같은 옵션의 행 중 id가 가장 작은 행에 가장 큰 수량을 남기고 나머지는 지운다. 중복이 없으면 아무것도 하지 않는다.
+ */
+@Slf4j
+@Component(CartDuplicateCleaner.BEAN_NAME)
+public class CartDuplicateCleaner {
+
+    static final String BEAN_NAME = "cartDuplicateCleaner";
+
+    private static final String DUPLICATES =
+            "SELECT email, option_id, MIN(id) AS keep_id, MAX(quantity) AS max_quantity " +
+            "FROM cart GROUP BY email, option_id HAVING COUNT(*) > 1";
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+
+    public CartDuplicateCleaner(DataSource dataSource) {
+        this.dataSource = dataSource;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @PostConstruct
+    public void removeDuplicates() throws SQLException {
+        // 새로 만드는 스키마면 정리할 행이 없다.
+        if (!cartTableExists()) {
+            return;
+        }
+
+        Integer groups = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM (" + DUPLICATES + ") d", Integer.class);
+        if (groups == null || groups == 0) {
+            return;
+        }
+
+        int merged = jdbcTemplate.update(
+                "UPDATE cart c JOIN (" + DUPLICATES + ") d ON c.id = d.keep_id SET c.quantity = d.max_quantity");
+        int deleted = jdbcTemplate.update(
+                "DELETE c FROM cart c JOIN (" + DUPLICATES + ") d " +
+                        "ON c.email = d.email AND c.option_id = d.option_id AND c.id <> d.keep_id");
+
+        log.info("[cart 중복 정리]: {}개 옵션 병합, {}행 삭제", merged, deleted);
+    }
+
+    private boolean cartTableExists() throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             ResultSet tables = connection.getMetaData().getTables(connection.getCatalog(), null, "cart", new String[]{"TABLE"})) {
+            return tables.next();
+        }
+    }
+
+    // ddl-auto 스키마 갱신 전에 실행
+    @Component
+    static class DependsOn extends EntityManagerFactoryDependsOnPostProcessor {
+        DependsOn() {
+            super(BEAN_NAME);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.team5.pyeonjip.global.config;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 카테고리 클로저 테이블 초기 채우기.
+ * - 클로저 테이블이 비어 있을 때만 category.parent_id 로부터 한 번에 구성한다. (이후에는 카테고리 변경 시 갱신)
+ * - 순환 참조 데이터가 있어도 끝나도록 깊이를 제한하고 중복 행은 무시한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CategoryClosureInitializer {
+
+    private static final int MAX_DEPTH = 64;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 스키마 생성(ddl-auto) 이후에 실행되도록 EntityManagerFactory에 의존한다.
+    private final EntityManagerFactory entityManagerFactory;
+
+    @PostConstruct
+    public void rebuild() {
+        Integer links = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM category_closure", Integer.class);
+        if (links != null && links > 0) {
+            return;
+        }
+
+        int inserted = jdbcTemplate.update("""
+                INSERT IGNORE INTO category_closure (ancestor_id, descendant_id, depth)
+                WITH RECURSIVE paths (ancestor_id, descendant_id, depth) AS (
+                    SELECT id, id, 0
+                    FROM category
+                    UNION ALL
+                    SELECT p.ancestor_id, c.id, p.depth + 1
+                    FROM paths p
+                    JOIN category c ON c.parent_id = p.descendant_id
+                    WHERE p.depth < ?
+                )
+                SELECT ancestor_id, descendant_id, depth
+                FROM paths
+                """, MAX_DEPTH);
+
+        if (inserted > 0) {
+            log.info("[카테고리 클로저 초기화]: {}행", inserted);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.team5.pyeonjip.global.config;
+
+import com.team5.pyeonjip.global.entity.IdSequence;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * IDENTITY -> 테이블 기반 pooled 생성기 전환을 위한 마이그레이션.
+ * - 기존 테이블에 이미 발급된 id와 충돌하지 않도록, 각 시퀀스의 next_val을 MAX(id) 이후로 맞춘다.
+ * - 웹 서버가 요청을 받기 전(빈 초기화 시점)에 실행되며, 이미 맞춰진 시퀀스는 건드리지 않으므로 여러 번 실행해도 안전하다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IdSequenceInitializer {
+
+    // 시퀀스 이름 -> 엔티티 테이블 이름
+    private static final Map<String, String> SEQUENCE_TABLES = Map.of(
+            "product", "product",
+            "product_detail", "product_detail",
+            "product_image", "product_image",
+            "order", "order",
+            "order_detail", "order_detail",
+            "delivery", "delivery",
+            "cart", "cart",
+            "chat_message", "chat_message",
+            "comment", "comment",
+            "coupon_redemption", "coupon_redemption"
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 스키마 생성(ddl-auto) 이후에 실행되도록 EntityManagerFactory에 의존한다.
+    private final EntityManagerFactory entityManagerFactory;
+
+    @PostConstruct
+    public void alignSequences() {
+        SEQUENCE_TABLES.forEach(this::alignSequence);
+    }
+
+    private void alignSequence(String sequenceName, String tableName) {
+        Long maxId = jdbcTemplate.queryForObject(
+                "SELECT COALESCE(MAX(id), 0) FROM `" + tableName + "`", Long.class);
+
+        // pooled, pooled-lo 어느 쪽을 쓰더라도 기존 id와 겹치지 않도록 할당 크기만큼 여유를 둔다.
+        long nextVal = (maxId != null ? maxId : 0L) + IdSequence.ALLOCATION_SIZE + 1;
+
+        int updated = jdbcTemplate.update(
+                "UPDATE " + IdSequence.TABLE + " SET " + IdSequence.VALUE_COLUMN + " = ? WHERE "
+                        + IdSequence.PK_COLUMN + " = ? AND " + IdSequence.VALUE_COLUMN + " < ?",
+                nextVal, sequenceName, nextVal);
+
+        if (updated == 0) {
+            Integer exists = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM " + IdSequence.TABLE + " WHERE " + IdSequence.PK_COLUMN + " = ?",
+                    Integer.class, sequenceName);
+
+            if (exists == null || exists == 0) {
+                jdbcTemplate.update(
+                        "INSERT INTO " + IdSequence.TABLE + " (" + IdSequence.PK_COLUMN + ", " + IdSequence.VALUE_COLUMN + ") VALUES (?, ?)",
+                        sequenceName, nextVal);
+            }
+        }
+
+        log.info("[id_sequence] {} -> next_val >= {}", sequenceName, nextVal);
+    }
+}
@@ -0,0 +1,67 @@
+package com.team5.pyeonjip.global.config;
+
+import com.team5.pyeonjip.global.security.AdaptivePasswordEncoder;
+import com.team5.pyeonjip.global.security.PasswordHashCalibrator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 비밀번호 인코더 (app.auth.password).
+ * - algorithm=bcrypt(기본)면 BCrypt, pbkdf2면 PBKDF2-HMAC-SHA256으로 새 해시를 만든다. 검증은 두 알고리즘 모두 가능하다.
+ * - bcrypt.strength로 cost를 고정한다. (기본 10, 기존 해시와 같음) 0이면 시작 시 측정해 해시 한 번이 target-ms 안에 끝나는 가장 높은 cost를 쓴다.
+ * - 로그인 성공 시 현재 설정보다 약한 해시는 PasswordHashService에서 다시 해시해 저장한다.
+ *   cost를 내리는 재해시는 strength를 고정한 경우에만 한다. (서버마다 측정값이 다르면 해시가 오가며 매번 다시 저장되므로)
+ */
+@Slf4j
+@Configuration
+public class PasswordEncoderConfig {
+
+    private static final String BCRYPT = "bcrypt";
+    private static final String PBKDF2 = "pbkdf2@SpringSecurity_v5_8";
+
+    @Bean
+    public PasswordEncoder passwordEncoder(@Value("${app.auth.password.algorithm:bcrypt}") String algorithm,
+                                           @Value("${app.auth.password.bcrypt.strength:10}") int strength,
+                                           @Value("${app.auth.password.bcrypt.target-ms:250}") long targetMs,
+                                           @Value("${app.auth.password.bcrypt.min-strength:10}") int minStrength,
+                                           @Value("${app.auth.password.bcrypt.max-strength:14}") int maxStrength) {
+        int bcryptStrength = strength > 0
+                ? strength
+                : PasswordHashCalibrator.bcryptStrength(Duration.ofMillis(targetMs), minStrength, maxStrength);
+
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(bcryptStrength);
+        Pbkdf2PasswordEncoder pbkdf2 = Pbkdf2PasswordEncoder.defaultsForSpringSecurity_v5_8();
+
+        Map<String, PasswordEncoder> encoders = new HashMap<>();
+        encoders.put(BCRYPT, bcrypt);
+        encoders.put(PBKDF2, pbkdf2);
+
+        String idForEncode = "pbkdf2".equalsIgnoreCase(algorithm) ? PBKDF2 : BCRYPT;
+        DelegatingPasswordEncoder delegate = new DelegatingPasswordEncoder(idForEncode, encoders);
+        // 접두사 없는 기존 해시 ($2a$...)
+        delegate.setDefaultPasswordEncoderForMatches(bcrypt);
+
+        report(idForEncode, bcryptStrength, encoders.get(idForEncode));
+        return new AdaptivePasswordEncoder(delegate, bcryptStrength, strength > 0);
+    }
+
+    // 해시 한 번에 걸리는 시간과 코어당 초당 처리량 (로그인 처리 용량 산정용)
+    private void report(String idForEncode, int bcryptStrength, PasswordEncoder encoder) {
+        Duration elapsed = PasswordHashCalibrator.measure(encoder, 2);
+        double perSecondPerCore = 1_000_000_000.0 / Math.max(1L, elapsed.toNanos());
+
+        log.info("[비밀번호 해시]: {} (bcrypt cost {}), 1회 {}ms, 코어당 초당 {}회, 코어 {}개",
+                idForEncode, bcryptStrength, elapsed.toMillis(),
+                String.format("%.1f", perSecondPerCore), Runtime.getRuntime().availableProcessors());
+    }
+}
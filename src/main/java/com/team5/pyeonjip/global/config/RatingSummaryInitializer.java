@@ -0,0 +1,49 @@
+package com.team5.pyeonjip.global.config;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 상품 평점 집계 테이블 초기 채우기.
+ * - 집계 테이블이 비어 있을 때만 기존 댓글로부터 한 번에 집계한다. (이후에는 댓글 저장/수정/삭제 시 갱신)
+ * - 1~5 범위를 벗어난 과거 평점은 집계에서 제외한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RatingSummaryInitializer {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 스키마 생성(ddl-auto) 이후에 실행되도록 EntityManagerFactory에 의존한다.
+    private final EntityManagerFactory entityManagerFactory;
+
+    @PostConstruct
+    public void backfill() {
+        Integer summaries = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM product_rating_summary", Integer.class);
+        if (summaries != null && summaries > 0) {
+            return;
+        }
+
+        int inserted = jdbcTemplate.update(
+                "INSERT INTO product_rating_summary " +
+                        "(product_id, rating_count, rating_sum, rating1, rating2, rating3, rating4, rating5) " +
+                        "SELECT product_id, COUNT(*), SUM(rating), " +
+                        "SUM(CASE WHEN rating = 1 THEN 1 ELSE 0 END), " +
+                        "SUM(CASE WHEN rating = 2 THEN 1 ELSE 0 END), " +
+                        "SUM(CASE WHEN rating = 3 THEN 1 ELSE 0 END), " +
+                        "SUM(CASE WHEN rating = 4 THEN 1 ELSE 0 END), " +
+                        "SUM(CASE WHEN rating = 5 THEN 1 ELSE 0 END) " +
+                        "FROM comment " +
+                        "WHERE product_id IS NOT NULL AND rating BETWEEN 1 AND 5 " +
+                        "GROUP BY product_id");
+
+        if (inserted > 0) {
+            log.info("[평점 집계 초기화]: {}개 상품", inserted);
+        }
+    }
+}
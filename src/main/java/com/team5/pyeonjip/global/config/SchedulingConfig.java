@@ -0,0 +1,10 @@
+package com.team5.pyeonjip.global.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// 주기 작업 (장바구니 정리 등) 활성화
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -6,9 +6,10 @@ import com.team5.pyeonjip.global.jwt.CustomLogoutFilter;
 import com.team5.pyeonjip.global.jwt.JWTFilter;
 import com.team5.pyeonjip.global.jwt.JWTUtil;
 import com.team5.pyeonjip.global.jwt.LoginFilter;
-import com.team5.pyeonjip.user.repository.RefreshRepository;
-import com.team5.pyeonjip.user.repository.UserRepository;
+import com.team5.pyeonjip.global.jwt.TokenRevocationService;
+import com.team5.pyeonjip.user.service.LoginAuthenticationProvider;
 import com.team5.pyeonjip.user.service.ReissueService;
+import com.team5.pyeonjip.user.storage.RefreshTokenStore;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
@@ -18,7 +19,6 @@ import org.springframework.security.config.annotation.authentication.configurati
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.security.web.authentication.logout.LogoutFilter;
@@ -33,20 +33,13 @@ import java.util.List;
 @EnableWebSecurity
 public class SecurityConfig {
 
-    private final AuthenticationConfiguration authenticationConfiguration;
     private final JWTUtil jwtUtil;
-    private final UserRepository userRepository;
-    private final RefreshRepository refreshRepository;
+    private final RefreshTokenStore refreshTokenStore;
     private final ReissueService reissueService;
+    private final TokenRevocationService tokenRevocationService;
     private final JWTAuthenticationEntryPoint jwtAuthenticationEntryPoint;
     private final JWTAccessDeniedHandler jwtAccessDeniedHandler;
 
-    @Bean
-    public BCryptPasswordEncoder bCryptPasswordEncoder() {
-
-        return new BCryptPasswordEncoder();
-    }
-
     // AuthenticationManager Bean
     @Bean
     public AuthenticationManager authenticationManager(AuthenticationConfiguration configuration) throws Exception {
@@ -56,7 +49,7 @@ public class SecurityConfig {
 
 
     @Bean
-    public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain filterChain(HttpSecurity http, LoginAuthenticationProvider loginAuthenticationProvider) throws Exception {
 
         http
                 .cors((cors) -> cors
@@ -121,6 +114,7 @@ public class SecurityConfig {
                         //.requestMatchers("/api/cart/**").hasAnyRole("ADMIN", "USER")     // 3
 
                         /* 쿠폰 */
+                        .requestMatchers("/api/coupon/bulk").hasRole("ADMIN")
                         .requestMatchers("/api/coupon/**").permitAll()
                         .requestMatchers("/api/coupon/custom/**").hasRole("ADMIN")
 
@@ -160,21 +154,19 @@ public class SecurityConfig {
         // 필터 등록
 //      JWTFilter
         http
-                .addFilterBefore(new JWTFilter(jwtUtil), LoginFilter.class);
+                .addFilterBefore(new JWTFilter(jwtUtil, tokenRevocationService), LoginFilter.class);
 //      LoginFilter
         http
                 .addFilterAt(new LoginFilter(
-                        authenticationManager(authenticationConfiguration),
+                        loginAuthenticationProvider,
                         jwtUtil,
-                        refreshRepository,
-                        reissueService,
-                        userRepository,
-                        bCryptPasswordEncoder()
+                        refreshTokenStore,
+                        reissueService
                 ), UsernamePasswordAuthenticationFilter.class);
 
         //      LogoutFilter
         http
-                .addFilterBefore(new CustomLogoutFilter(jwtUtil, refreshRepository), LogoutFilter.class);
+                .addFilterBefore(new CustomLogoutFilter(jwtUtil, refreshTokenStore, tokenRevocationService), LogoutFilter.class);
         // 세션 설정
         http
                 .sessionManagement((session) -> session
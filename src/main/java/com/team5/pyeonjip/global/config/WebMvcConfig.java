@@ -0,0 +1,35 @@
+package com.team5.pyeonjip.global.config;
+
+import com.team5.pyeonjip.global.cache.CatalogEtagInterceptor;
+import com.team5.pyeonjip.global.ratelimit.ClientRateLimiter;
+import com.team5.pyeonjip.global.ratelimit.RateLimitInterceptor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class WebMvcConfig implements WebMvcConfigurer {
+
+    private final CatalogEtagInterceptor catalogEtagInterceptor;
+    private final ClientRateLimiter couponLookupLimiter;
+
+    public WebMvcConfig(CatalogEtagInterceptor catalogEtagInterceptor,
+                        @Value("${app.rate-limit.coupon-lookup.capacity:20}") int couponLookupCapacity,
+                        @Value("${app.rate-limit.coupon-lookup.refill-per-second:1}") double couponLookupRefill,
+                        @Value("${app.rate-limit.max-clients:100000}") int maxClients) {
+        this.catalogEtagInterceptor = catalogEtagInterceptor;
+        this.couponLookupLimiter = new ClientRateLimiter(couponLookupCapacity, couponLookupRefill, maxClients);
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        // 상품/카테고리 조회 조건부 응답 (ETag, 304)
+        registry.addInterceptor(catalogEtagInterceptor)
+                .addPathPatterns("/api/products/**", "/api/category", "/api/category/**");
+
+        // 쿠폰 코드 조회 요청 수 제한 (코드 대입 방지)
+        registry.addInterceptor(new RateLimitInterceptor(couponLookupLimiter))
+                .addPathPatterns("/api/coupon/lookup");
+    }
+}
@@ -0,0 +1,21 @@
+package com.team5.pyeonjip.global.entity;
+
+/**
+ * 테이블 기반 pooled id 생성기 공통 설정.
+ * - IDENTITY 전략은 Hibernate의 JDBC insert 배치를 비활성화하므로, 대량 insert가 필요한 엔티티는 이 생성기를 사용한다.
+ * - id 블록은 id_sequence 테이블에서 ALLOCATION_SIZE 단위로 할당되며,
+ *   pooled / pooled-lo 선택은 hibernate.id.optimizer.pooled.preferred 설정으로 바꿀 수 있다.
+ */
+public final class IdSequence {
+
+    // 시퀀스 테이블 정보
+    public static final String TABLE = "id_sequence";
+    public static final String PK_COLUMN = "sequence_name";
+    public static final String VALUE_COLUMN = "next_val";
+
+    // 한 번에 할당받는 id 개수 (hibernate.jdbc.batch_size와 맞춘다)
+    public static final int ALLOCATION_SIZE = 50;
+
+    private IdSequence() {
+    }
+}
@@ -8,11 +8,16 @@ import org.springframework.http.HttpStatus;
 @AllArgsConstructor
 public enum ErrorCode {
 
+    // 공통
+    TOO_MANY_REQUESTS(HttpStatus.TOO_MANY_REQUESTS, "COMMON-01", "요청이 너무 많습니다. 잠시 후 다시 시도해주세요."),
+
     // 카테고리
     CATEGORY_NOT_FOUND(HttpStatus.NOT_FOUND, "CATEGORY-01", "카테고리를 찾을 수 없습니다."),
     INVALID_PARENT_SELF(HttpStatus.BAD_REQUEST, "CATEGORY-02", "자기 자신을 상위 카테고리로 설정할 수 없습니다."),
     INVALID_PARENT(HttpStatus.BAD_REQUEST, "CATEGORY-03", "존재하지 않는 카테고리를 상위 카테고리로 설정할 수 없습니다."),
     DUPLICATE_CATEGORY(HttpStatus.CONFLICT, "CATEGORY-04", "이미 존재하는 카테고리입니다."),
+    INVALID_PARENT_DESCENDANT(HttpStatus.BAD_REQUEST, "CATEGORY-05", "하위 카테고리를 상위 카테고리로 설정할 수 없습니다."),
+    INVALID_CATEGORY_ORDER(HttpStatus.BAD_REQUEST, "CATEGORY-06", "순서 변경 요청에 같은 상위 카테고리의 모든 카테고리가 한 번씩 포함되어야 합니다."),
 
     // 채팅
     CHAT_ROOM_NOT_FOUND(HttpStatus.NOT_FOUND, "CHAT_ROOM-01", "채팅방을 찾을 수 없습니다."),
@@ -25,6 +30,9 @@ public enum ErrorCode {
     PRODUCT_NOT_FOUND(HttpStatus.NOT_FOUND, "PRODUCT-01", "상품을 찾을 수 없습니다."),
     PRODUCT_DETAIL_NOT_FOUND(HttpStatus.NOT_FOUND, "PRODUCT-02", "상품 옵션을 찾을 수 없습니다."),
     PRODUCT_IMAGE_NOT_FOUND(HttpStatus.NOT_FOUND, "PRODUCT-03", "상품 이미지를 찾을 수 없습니다."),
+    INVALID_IMAGE_FILE(HttpStatus.BAD_REQUEST, "PRODUCT-04", "지원하지 않는 이미지 파일입니다."),
+    IMAGE_STORAGE_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "PRODUCT-05", "이미지 저장에 실패했습니다."),
+    IMAGE_PROCESSING_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "PRODUCT-06", "이미지 처리 요청이 많습니다. 잠시 후 다시 시도해주세요."),
 
     // 주문
     OUT_OF_STOCK(HttpStatus.BAD_REQUEST, "STOCK-01", "재고 수량이 부족합니다."),
@@ -42,12 +50,19 @@ public enum ErrorCode {
     INVALID_COUPON_CODE(HttpStatus.BAD_REQUEST, "COUPON-01", "유효하지 않은 쿠폰 코드입니다."),
     COUPON_NOT_FOUND(HttpStatus.NOT_FOUND, "COUPON-02", "해당 쿠폰을 찾을 수 없습니다."),
     INVALID_COUPON_DISCOUNT(HttpStatus.BAD_REQUEST, "COUPON-03", "유효하지 않은 할인 금액입니다."),
+    COUPON_NOT_REDEEMABLE(HttpStatus.CONFLICT, "COUPON-04", "이미 사용되었거나 만료된 쿠폰입니다."),
+    INVALID_COUPON_ISSUE_COUNT(HttpStatus.BAD_REQUEST, "COUPON-05", "발급할 수 없는 쿠폰 수입니다."),
+    COUPON_CODE_EXHAUSTED(HttpStatus.SERVICE_UNAVAILABLE, "COUPON-06", "중복되지 않는 쿠폰 코드를 만들지 못했습니다."),
+    INVALID_COUPON_CURSOR(HttpStatus.BAD_REQUEST, "COUPON-07", "잘못된 페이지 커서입니다."),
+    COUPON_ISSUE_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "COUPON-08", "쿠폰 발급 중 오류가 발생했습니다."),
 
     // 코멘트
     COMMENT_NOT_FOUND(HttpStatus.NOT_FOUND, "COMMENT-01", "해당 코멘트를 찾을 수 없습니다."),
     EMPTY_COMMENT_CONTENT(HttpStatus.BAD_REQUEST, "COMMENT-02", "코멘트 내용이 비어 있습니다."),
     EMPTY_COMMENT_TITLE(HttpStatus.BAD_REQUEST, "COMMENT-03", "코멘트 내용이 비어 있습니다."),
     EMPTY_COMMENT_RATING(HttpStatus.BAD_REQUEST, "COMMENT-04", "평점이 비어있습니다."),
+    INVALID_COMMENT_RATING(HttpStatus.BAD_REQUEST, "COMMENT-05", "평점은 1점에서 5점 사이여야 합니다."),
+    INVALID_COMMENT_CURSOR(HttpStatus.BAD_REQUEST, "COMMENT-06", "잘못된 페이지 커서입니다."),
 
 
     // 유저
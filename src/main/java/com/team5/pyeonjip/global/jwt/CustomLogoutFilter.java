@@ -2,8 +2,9 @@ package com.team5.pyeonjip.global.jwt;
 
 import com.team5.pyeonjip.global.exception.ErrorCode;
 import com.team5.pyeonjip.global.exception.GlobalException;
-import com.team5.pyeonjip.user.repository.RefreshRepository;
+import com.team5.pyeonjip.user.storage.RefreshTokenStore;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.ServletRequest;
@@ -12,15 +13,18 @@ import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.web.filter.GenericFilterBean;
 
 import java.io.IOException;
 
+@Slf4j
 @RequiredArgsConstructor
 public class CustomLogoutFilter extends GenericFilterBean {
 
     private final JWTUtil jwtUtil;
-    private final RefreshRepository refreshRepository;
+    private final RefreshTokenStore refreshTokenStore;
+    private final TokenRevocationService tokenRevocationService;
     private final String LOGOUT_URL = "/api/auth/logout";
 
     @Override
@@ -72,30 +76,30 @@ public class CustomLogoutFilter extends GenericFilterBean {
         }
 
         // 토큰이 만료되었는지 확인한다.
+        TokenClaims claims;
         try {
-            jwtUtil.isExpired(refresh);
+            claims = jwtUtil.parse(refresh);
         } catch (ExpiredJwtException e) {
 
             throw new GlobalException(ErrorCode.LOGOUT_REFRESH_TOKEN_EXPIRED);
         }
 
         // 가져온 토큰이 Refresh 토큰인지 확인한다. (발급시 페이로드에 명시)
-        String category = jwtUtil.getCategory(refresh);
-        if (!category.equals("refresh")) {
+        if (!claims.isRefresh()) {
 
             throw new GlobalException(ErrorCode.LOGOUT_MISSING_REFRESH_TOKEN);
         }
 
-        // 해당 Refresh 토큰이 DB에 저장되어 있는지 확인한다.
-        Boolean isExist = refreshRepository.existsByRefresh(refresh);
-        if (!isExist) {
+        //로그아웃 진행
+        //Refresh 토큰을 저장소에서 제거한다. 제거하지 않으면 재발급 될 수도 있다.
+        //저장되어 있지 않던 토큰이면 (이미 로그아웃/재발급된 토큰) 실패로 처리한다.
+        if (!refreshTokenStore.remove(refresh)) {
 
             throw new GlobalException(ErrorCode.LOGOUT_MISSING_REFRESH_TOKEN);
         }
 
-        //로그아웃 진행
-        //Refresh 토큰을 DB에서 제거한다. 제거하지 않으면 재발급 될 수도 있다.
-        refreshRepository.deleteByRefresh(refresh);
+        // Access 토큰도 만료 전까지 쓰지 못하도록 폐기한다.
+        revokeAccessToken(request);
 
         // Cookie에 설정된 Refresh 토큰을 제거하는 과정.
         // 응답에 빈 쿠키를 넣음으로 제거한다.
@@ -106,4 +110,27 @@ public class CustomLogoutFilter extends GenericFilterBean {
         response.addCookie(cookie);
         response.setStatus(HttpServletResponse.SC_OK);
     }
+
+
+    private void revokeAccessToken(HttpServletRequest request) {
+
+        String authorization = request.getHeader("Authorization");
+        if (authorization == null || !authorization.startsWith("Bearer ")) {
+
+            return;
+        }
+
+        try {
+            TokenClaims claims = jwtUtil.parse(authorization.substring(7));
+            if (claims.isAccess()) {
+
+                tokenRevocationService.revoke(claims);
+            }
+        } catch (JwtException | IllegalArgumentException e) {
+            // 만료되었거나 유효하지 않은 토큰은 폐기할 필요가 없다.
+        } catch (Exception e) {
+            // Refresh 토큰은 이미 제거했으므로 로그아웃은 진행한다.
+            log.warn("[Access 토큰 폐기 실패]", e);
+        }
+    }
 }
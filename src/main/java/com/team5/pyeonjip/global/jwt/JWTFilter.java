@@ -25,6 +25,7 @@ public class JWTFilter extends OncePerRequestFilter {
 // 요청에 대해 한 번만 동작하는 OncePerRequestFilter를 상속
 
     private final JWTUtil jwtUtil;
+    private final TokenRevocationService tokenRevocationService;
 
 
     // 필수 구현 메서드
@@ -54,30 +55,32 @@ public class JWTFilter extends OncePerRequestFilter {
             return;
         }
 
-        // 5. 토큰 만료 여부 확인. 만료시 오류를 출력하고 다음 필터로 넘기지 않는다.
+        // 5. 토큰을 한 번 검증하고 페이로드를 가져온다. 만료시 오류를 출력하고 다음 필터로 넘기지 않는다.
+        TokenClaims claims;
         try {
-            jwtUtil.isExpired(accessToken);
+            claims = jwtUtil.parse(accessToken);
         } catch (ExpiredJwtException e) {
 
-            SecurityContextHolder.clearContext();
-            response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
-            PrintWriter writer = response.getWriter();
-            writer.write("{\"error\": \"토큰이 만료되었습니다.\"}");
-            writer.flush();
+            writeUnauthorized(response, "토큰이 만료되었습니다.");
             return;
         }
 
         // 6. 토큰이 access인지 확인한다. (페이로드에 명시되어 있다.)
-        String category = jwtUtil.getCategory(accessToken);
-
-        if (!category.equals("access")) {
+        if (!claims.isAccess()) {
 
             throw new GlobalException(ErrorCode.INVALID_ACCESS_TOKEN);
         }
 
+        // 7. 로그아웃 등으로 폐기된 토큰인지 확인한다. (대부분 메모리의 Bloom 필터에서 바로 통과)
+        if (tokenRevocationService.isRevoked(claims)) {
+
+            writeUnauthorized(response, "폐기된 토큰입니다.");
+            return;
+        }
+
         // 토큰에서 email, role 값을 가져온다.
-        String email = jwtUtil.getEmail(accessToken);
-        String role = jwtUtil.getRole(accessToken);
+        String email = claims.email();
+        String role = claims.role();
 
         // UserDetails에 유저 정보를 담는다.
         User user = new User();
@@ -93,4 +96,14 @@ public class JWTFilter extends OncePerRequestFilter {
 
         filterChain.doFilter(request, response);
     }
+
+
+    private void writeUnauthorized(HttpServletResponse response, String message) throws IOException {
+
+        SecurityContextHolder.clearContext();
+        response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+        PrintWriter writer = response.getWriter();
+        writer.write("{\"error\": \"" + message + "\"}");
+        writer.flush();
+    }
 }
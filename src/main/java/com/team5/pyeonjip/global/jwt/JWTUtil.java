@@ -1,21 +1,42 @@
 package com.team5.pyeonjip.global.jwt;
 
 
+import com.team5.pyeonjip.global.util.HashUtils;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
-import javax.crypto.spec.SecretKeySpec;
 import java.nio.charset.StandardCharsets;
 import java.util.Date;
-
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT 발급/검증.
+ * - 검증은 미리 만들어 둔 JwtParser 하나로 처리하고, parse 한 번으로 필요한 값을 모두 꺼낸다.
+ * - 서명 검증을 마친 access 토큰은 (토큰 SHA-256 -> 페이로드)로 만료 시각까지 캐시해, 같은 토큰의 반복 요청은 서명 검증과 JSON 파싱을 건너뛴다.
+ *   토큰 원문은 메모리에 두지 않으며, 가득 차면 비우고 다시 채운다. (max-entries 0이면 캐시하지 않음)
+ */
 @Component
 public class JWTUtil {
 
+    // 서버 간 시각 차이 허용
+    private static final long CLOCK_SKEW_SECONDS = 30;
+
     // secret key를 저장할 객체
-    private SecretKey secretKey;
+    private final SecretKey secretKey;
+
+    // 스레드 안전하므로 하나를 재사용한다.
+    private final JwtParser parser;
+
+    private final int cacheMaxEntries;
+    private final Map<String, TokenClaims> verified = new ConcurrentHashMap<>();
 
 //    오류 발생.
 //    public JWTUtil(@Value("{spring.jwt.secret") String secret) {
@@ -23,71 +44,85 @@ public class JWTUtil {
 //        this.secretKey = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), Jwts.SIG.HS256.key().build().getAlgorithm());
 //    }
 
-    public JWTUtil(@Value("${spring.jwt.secret}") String secret) {
+    public JWTUtil(@Value("${spring.jwt.secret}") String secret,
+                   @Value("${app.jwt.verified-cache.max-entries:10000}") int cacheMaxEntries) {
         byte[] keyBytes = secret.getBytes(StandardCharsets.UTF_8);
 
         // HMAC SHA 알고리즘에 맞는 SecretKey를 생성한다.
         this.secretKey = Keys.hmacShaKeyFor(keyBytes);
+        this.parser = Jwts.parser()
+                // 오차 시간 허용
+                .clockSkewSeconds(CLOCK_SKEW_SECONDS)
+                .verifyWith(secretKey)
+                .build();
+        this.cacheMaxEntries = cacheMaxEntries;
+    }
+
+
+    // 서명과 만료를 검증하고 페이로드 반환 (만료 시 ExpiredJwtException, 위조/형식 오류 시 JwtException)
+    public TokenClaims parse(String token) {
+        String key = cacheMaxEntries > 0 ? HashUtils.sha256(token) : null;
+
+        if (key != null) {
+            TokenClaims cached = verified.get(key);
+            if (cached != null) {
+                if (isUsable(cached)) {
+                    return cached;
+                }
+                // 만료된 토큰은 파서가 ExpiredJwtException을 던지도록 다시 검증한다.
+                verified.remove(key);
+            }
+        }
+
+        Claims payload = parser.parseSignedClaims(token).getPayload();
+        TokenClaims claims = new TokenClaims(
+                payload.getId(),
+                payload.get("category", String.class),
+                payload.get("email", String.class),
+                payload.get("role", String.class),
+                payload.getExpiration());
+
+        // refresh 토큰은 한 번 쓰고 바뀌므로 캐시하지 않는다.
+        if (key != null && claims.isAccess() && claims.expiration() != null) {
+            if (verified.size() >= cacheMaxEntries) {
+                verified.clear();
+            }
+            verified.put(key, claims);
+        }
+        return claims;
     }
 
 
     public String getEmail(String token) {
 
-        return Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload()
-                .get("email", String.class);
+        return parse(token).email();
     }
 
 
     public String getRole(String token) {
 
-        return Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload()
-                .get("role", String.class);
+        return parse(token).role();
     }
 
 
     // access / refresh 토큰 구별을 위한 카테고리 getter
     public String getCategory(String token) {
 
-        return Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload()
-                .get("category", String.class);
+        return parse(token).category();
     }
 
 
     // 토큰 만료 시간 확인
     public Date getExpirationDate(String token) {
-        return Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload()
-                .getExpiration();
+
+        return parse(token).expiration();
     }
 
 
-    // 토큰 만료 여부 확인
+    // 토큰 만료 여부 확인 (만료된 토큰은 parse에서 ExpiredJwtException)
     public Boolean isExpired(String token) {
 
-        return Jwts.parser()
-                // 오차 시간 허용
-                .clockSkewSeconds(30)
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload()
-                .getExpiration()
-                .before(new Date());
+        return parse(token).expiration().before(new Date());
     }
 
 
@@ -97,6 +132,8 @@ public class JWTUtil {
 
         return Jwts.builder()
                 .setHeaderParam("typ", "JWT")
+                // 토큰 식별자 (폐기 목록에서 사용)
+                .id(UUID.randomUUID().toString())
                 // 키에 대한 특정 데이터를 담는다.
                 .claim("category", category)
                 .claim("email", email)
@@ -113,4 +150,11 @@ public class JWTUtil {
 
                 .compact();
     }
+
+
+    // 파서와 같은 오차를 허용해 만료 전인지 확인
+    private static boolean isUsable(TokenClaims claims) {
+        long skewMs = TimeUnit.SECONDS.toMillis(CLOCK_SKEW_SECONDS);
+        return claims.expiration().getTime() + skewMs > System.currentTimeMillis();
+    }
 }
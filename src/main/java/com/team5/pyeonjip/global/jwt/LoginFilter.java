@@ -1,81 +1,82 @@
 package com.team5.pyeonjip.global.jwt;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.team5.pyeonjip.global.exception.ErrorCode;
 import com.team5.pyeonjip.global.exception.GlobalException;
 import com.team5.pyeonjip.user.dto.CustomUserDetails;
-import com.team5.pyeonjip.user.entity.Refresh;
-import com.team5.pyeonjip.user.entity.User;
-import com.team5.pyeonjip.user.repository.RefreshRepository;
-import com.team5.pyeonjip.user.repository.UserRepository;
+import com.team5.pyeonjip.user.service.LoginAuthenticationProvider;
 import com.team5.pyeonjip.user.service.ReissueService;
+import com.team5.pyeonjip.user.storage.RefreshTokenStore;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
-import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.http.MediaType;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
 import java.io.IOException;
-import java.util.Collection;
-import java.util.Date;
-import java.util.Iterator;
-import java.util.Optional;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
+@Slf4j
 public class LoginFilter extends UsernamePasswordAuthenticationFilter {
 
-    private final AuthenticationManager authenticationManager;
+    // ObjectMapper 생성 비용이 크므로 요청마다 만들지 않고 공유한다. (ObjectReader는 스레드 안전)
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final ObjectReader LOGIN_REQUEST_READER = OBJECT_MAPPER.readerFor(LoginRequest.class);
+
+    private final LoginAuthenticationProvider loginAuthenticationProvider;
     private final JWTUtil jwtUtil;
-    private final RefreshRepository refreshRepository;
+    private final RefreshTokenStore refreshTokenStore;
     private final ReissueService reissueService;
-    private final UserRepository userRepository;
-    private final BCryptPasswordEncoder passwordEncoder;
 
-    public LoginFilter(AuthenticationManager authenticationManager, JWTUtil jwtUtil, RefreshRepository refreshRepository,
-                       ReissueService reissueService, UserRepository userRepository, BCryptPasswordEncoder passwordEncoder) {
-        this.authenticationManager = authenticationManager;
+    public LoginFilter(LoginAuthenticationProvider loginAuthenticationProvider, JWTUtil jwtUtil,
+                       RefreshTokenStore refreshTokenStore, ReissueService reissueService) {
+        this.loginAuthenticationProvider = loginAuthenticationProvider;
         this.jwtUtil = jwtUtil;
-        this.refreshRepository = refreshRepository;
+        this.refreshTokenStore = refreshTokenStore;
         this.reissueService = reissueService;
-        this.userRepository = userRepository;
-        this.passwordEncoder = passwordEncoder;
         setFilterProcessesUrl("/api/auth/login");
     }
 
     @Override
     public Authentication attemptAuthentication(HttpServletRequest request, HttpServletResponse response) throws AuthenticationException {
-        ObjectMapper objectMapper = new ObjectMapper();
         LoginRequest loginRequest;
 
         try {
-            loginRequest = objectMapper.readValue(request.getInputStream(), LoginRequest.class);
+            loginRequest = LOGIN_REQUEST_READER.readValue(request.getInputStream());
         } catch (IOException e) {
             throw new GlobalException(ErrorCode.INVALID_LOGIN_REQUEST);
         }
 
-        System.out.println("📌 email: " + loginRequest.getEmail());
-        System.out.println("📌 password: " + loginRequest.getPassword());
-
-        // 사용자가 존재하는지 확인
-        User user = userRepository.findByEmail(loginRequest.getEmail())
-                .orElseThrow(() -> new GlobalException(ErrorCode.USER_NOT_FOUND));
+        log.debug("[로그인 요청]: {}", loginRequest.getEmail());
 
-        // 비밀번호 검증 (직접 하지 않고, AuthenticationManager에 맡김)
         UsernamePasswordAuthenticationToken authToken =
-                new UsernamePasswordAuthenticationToken(loginRequest.getEmail(), loginRequest.getPassword());
-
-        System.out.println("✅ 인증 토큰 생성 완료: " + authToken);
+                UsernamePasswordAuthenticationToken.unauthenticated(loginRequest.getEmail(), loginRequest.getPassword());
 
-        // AuthenticationManager를 통해 인증 진행
-        return authenticationManager.authenticate(authToken);
+        // 사용자 조회(없으면 USER_NOT_FOUND)와 비밀번호 검증을 한 번에 진행
+        try {
+            return loginAuthenticationProvider.authenticate(authToken);
+        } catch (GlobalException e) {
+            if (e.getErrorCode() != ErrorCode.TOO_MANY_REQUESTS) {
+                throw e;
+            }
+
+            // 비밀번호 검증 풀이 가득 찬 경우. null을 반환하면 이후 처리 없이 응답을 끝낸다.
+            writeTooManyRequests(response);
+            return null;
+        }
     }
 
 
@@ -89,25 +90,20 @@ public class LoginFilter extends UsernamePasswordAuthenticationFilter {
                     .findFirst()
                     .orElse("ROLE_USER");
 
-            System.out.println("✅ 로그인 성공: " + email + ", 역할: " + role);
+            log.debug("[로그인 성공]: {}, 역할: {}", email, role);
 
             String access = jwtUtil.createJwt("access", email, role, 60000000L);
             String refresh = jwtUtil.createJwt("refresh", email, role, 86400000L);
 
-            System.out.println("✅ 액세스 토큰: " + access);
-            System.out.println("✅ 리프레시 토큰: " + refresh);
-
             addRefresh(email, refresh, 86400000L);
 
             response.setHeader("Authorization", "Bearer " + access);
-            System.out.println("✅ Authorization 헤더 설정 완료");
 
             response.addCookie(reissueService.createCookie("refresh", refresh));
-            System.out.println("✅ Refresh 토큰 쿠키 설정 완료");
 
             response.setStatus(HttpStatus.OK.value());
         } catch (Exception e) {
-            System.out.println("🚨 로그인 성공 후 처리 중 오류 발생: " + e.getMessage());
+            log.error("[로그인 성공 후 처리 실패]", e);
             throw new GlobalException(ErrorCode.LOGIN_PROCESSING_ERROR);
         }
     }
@@ -121,21 +117,30 @@ public class LoginFilter extends UsernamePasswordAuthenticationFilter {
 
     private void addRefresh(String email, String refresh, Long expiredMs) {
         try {
-            Date date = new Date(System.currentTimeMillis() + expiredMs);
-            Refresh newRefresh = new Refresh();
-            newRefresh.setEmail(email);
-            newRefresh.setRefresh(refresh);
-            newRefresh.setExpiration(date.toString());
-
-            System.out.println("✅ Refresh 토큰 저장 시작: " + refresh);
-            refreshRepository.save(newRefresh);
-            System.out.println("✅ Refresh 토큰 저장 완료");
+            refreshTokenStore.save(refresh, email, Duration.ofMillis(expiredMs));
+            log.debug("[Refresh 토큰 저장]: {}", email);
         } catch (Exception e) {
-            System.out.println("🚨 Refresh 토큰 저장 중 오류 발생: " + e.getMessage());
+            log.error("[Refresh 토큰 저장 실패]: {}", email, e);
             throw new GlobalException(ErrorCode.LOGIN_PROCESSING_ERROR);
         }
     }
 
+    private void writeTooManyRequests(HttpServletResponse response) throws IOException {
+        ErrorCode errorCode = ErrorCode.TOO_MANY_REQUESTS;
+
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("status", errorCode.getHttpStatus().value());
+        body.put("name", errorCode.name());
+        body.put("code", errorCode.getCode());
+        body.put("message", errorCode.getMessage());
+
+        response.setStatus(errorCode.getHttpStatus().value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        OBJECT_MAPPER.writeValue(response.getWriter(), body);
+    }
+
     private static class LoginRequest {
         private String email;
         private String password;
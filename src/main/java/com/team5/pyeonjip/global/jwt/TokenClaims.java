@@ -0,0 +1,15 @@
+package com.team5.pyeonjip.global.jwt;
+
+import java.util.Date;
+
+// 서명 검증을 마친 토큰의 페이로드 (id: jti, 폐기 확인용. 발급 시 jti를 넣기 전 토큰은 null / category: access / refresh)
+public record TokenClaims(String id, String category, String email, String role, Date expiration) {
+
+    public boolean isAccess() {
+        return "access".equals(category);
+    }
+
+    public boolean isRefresh() {
+        return "refresh".equals(category);
+    }
+}
@@ -0,0 +1,301 @@
+package com.team5.pyeonjip.global.jwt;
+
+import com.team5.pyeonjip.global.exception.ErrorCode;
+import com.team5.pyeonjip.global.exception.GlobalException;
+import com.team5.pyeonjip.global.util.BloomFilter;
+import com.team5.pyeonjip.user.storage.RefreshTokenStore;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RScoredSortedSet;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Access 토큰 폐기 목록 (로그아웃, 관리자 폐기).
+ * - 폐기한 토큰의 jti는 Redis 정렬 집합 jwt:revoked (jti -> 토큰 만료 시각)에 저장하고, 만료된 항목은 주기적으로 지운다.
+ * - 인스턴스마다 폐기된 jti의 Bloom 필터를 두어, 요청마다의 확인은 대부분 메모리에서 끝난다. (없다고 나오면 확실히 폐기되지 않은 토큰)
+ *   필터에 걸린 경우에만 Redis에서 확인하고, 폐기가 확인된 jti는 만료 시각까지 기억한다.
+ * - 폐기한 jti는 Redis 토픽으로 다른 인스턴스에도 알린다. 알림을 놓쳐도 rebuild-interval 마다 다시 읽어 맞춘다.
+ * - 필터에 걸렸는데 Redis를 확인할 수 없으면 폐기된 것으로 본다. (필터에 걸리는 토큰은 대부분 실제로 폐기된 토큰)
+ * - 필터 생성/재생성은 전용 스레드에서 하므로 요청 스레드는 Redis 읽기를 기다리지 않는다.
+ *   아직 필터가 없으면 (시작 시 Redis 장애 등) 확인을 생략하고, 생성 실패 시 1초부터 두 배씩 최대 1분 간격으로 다시 시도한다.
+ * - jti가 없는 토큰(도입 전 발급)은 폐기할 수 없고, 만료되면 사라진다.
+ */
+@Slf4j
+@Component
+public class TokenRevocationService {
+
+    private static final String REVOKED_KEY = "jwt:revoked";
+    private static final String TOPIC = "jwt:revoked";
+    private static final long MIN_RETRY_MS = 1_000L;
+    private static final long MAX_RETRY_MS = 60_000L;
+
+    private final JWTUtil jwtUtil;
+    private final RefreshTokenStore refreshTokenStore;
+    private final RedissonClient redissonClient;
+    private final long minCapacity;
+    private final double falsePositiveRate;
+    private final int maxConfirmed;
+    private final Executor loader;
+
+    private volatile BloomFilter filter;
+
+    // 필터 생성/재생성 중이면 true (한 번에 하나만 실행)
+    private final AtomicBoolean loading = new AtomicBoolean();
+    // 연속 생성 실패 횟수와 다음 시도 가능 시각(ms), 필터가 없을 때만 적용
+    private volatile int failures;
+    private volatile long retryAt;
+
+    // 재생성 중 추가된 jti (재생성 중이 아니면 null, this로 동기화)
+    private List<String> rebuildBuffer;
+
+    // Redis로 폐기를 확인한 jti -> 토큰 만료 시각(ms)
+    private final Map<String, Long> confirmed = new ConcurrentHashMap<>();
+
+    @Autowired
+    public TokenRevocationService(JWTUtil jwtUtil,
+                                  RefreshTokenStore refreshTokenStore,
+                                  RedissonClient redissonClient,
+                                  @Value("${app.jwt.revocation.bloom.min-capacity:100000}") long minCapacity,
+                                  @Value("${app.jwt.revocation.bloom.false-positive-rate:0.001}") double falsePositiveRate,
+                                  @Value("${app.jwt.revocation.max-confirmed:10000}") int maxConfirmed) {
+        this(jwtUtil, refreshTokenStore, redissonClient, minCapacity, falsePositiveRate, maxConfirmed,
+                Executors.newSingleThreadExecutor(runnable -> {
+                    Thread thread = new Thread(runnable, "token-revocation-loader");
+                    thread.setDaemon(true);
+                    return thread;
+                }));
+    }
+
+    // 테스트에서 필터 생성을 호출 스레드에서 실행하도록 loader를 지정
+    TokenRevocationService(JWTUtil jwtUtil,
+                           RefreshTokenStore refreshTokenStore,
+                           RedissonClient redissonClient,
+                           long minCapacity,
+                           double falsePositiveRate,
+                           int maxConfirmed,
+                           Executor loader) {
+        this.jwtUtil = jwtUtil;
+        this.refreshTokenStore = refreshTokenStore;
+        this.redissonClient = redissonClient;
+        this.minCapacity = minCapacity;
+        this.falsePositiveRate = falsePositiveRate;
+        this.maxConfirmed = maxConfirmed;
+        this.loader = loader;
+    }
+
+    // 다른 인스턴스에서 폐기한 jti 반영
+    @PostConstruct
+    public void subscribe() {
+        topic().addListener(String.class, (channel, id) -> put(id));
+    }
+
+    // 첫 요청이 필터 생성을 기다리지 않도록 시작 시 미리 채운다.
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        requestReload();
+    }
+
+    // 서명/만료 검증을 마친 토큰이 폐기되었는지 확인
+    public boolean isRevoked(TokenClaims claims) {
+        String id = claims.id();
+        if (id == null) {
+            return false;
+        }
+
+        BloomFilter current = filter;
+        if (current == null) {
+            // 필터를 만드는 동안에는 기다리지 않고 확인을 생략한다.
+            requestReload();
+            return false;
+        }
+
+        if (!current.mightContain(id)) {
+            return false;
+        }
+        if (confirmed.containsKey(id)) {
+            return true;
+        }
+
+        try {
+            Double expiresAt = revokedSet().getScore(id);
+            if (expiresAt == null) {
+                return false;
+            }
+            if (confirmed.size() >= maxConfirmed) {
+                confirmed.clear();
+            }
+            confirmed.put(id, expiresAt.longValue());
+            return true;
+        } catch (Exception e) {
+            log.warn("[토큰 폐기 확인 실패]: {}", id, e);
+            return true;
+        }
+    }
+
+    // 토큰 만료 시각까지 폐기
+    public void revoke(TokenClaims claims) {
+        String id = claims.id();
+        long expiresAt = claims.expiration().getTime();
+        if (id == null || expiresAt <= System.currentTimeMillis()) {
+            return;
+        }
+
+        revokedSet().add(expiresAt, id);
+        put(id);
+        try {
+            topic().publish(id);
+        } catch (Exception e) {
+            log.warn("[토큰 폐기 필터]: 폐기 알림 실패, 다음 재생성 때 반영", e);
+        }
+    }
+
+    // 관리자 폐기. Access 토큰은 폐기 목록에 넣고, Refresh 토큰은 저장소에서 지워 재발급을 막는다.
+    public void revoke(String token) {
+        TokenClaims claims;
+        try {
+            claims = jwtUtil.parse(token);
+        } catch (ExpiredJwtException e) {
+            // 이미 쓸 수 없는 토큰
+            return;
+        } catch (JwtException | IllegalArgumentException e) {
+            throw new GlobalException(ErrorCode.INVALID_ACCESS_TOKEN);
+        }
+
+        if (claims.isRefresh()) {
+            refreshTokenStore.remove(token);
+            return;
+        }
+        revoke(claims);
+    }
+
+    // 만료된 항목 정리, 놓친 폐기 알림 반영
+    @Scheduled(initialDelayString = "${app.jwt.revocation.rebuild-interval-ms:600000}",
+            fixedDelayString = "${app.jwt.revocation.rebuild-interval-ms:600000}")
+    public void rebuild() {
+        long now = System.currentTimeMillis();
+        confirmed.values().removeIf(expiresAt -> expiresAt <= now);
+
+        if (loading.compareAndSet(false, true)) {
+            reload();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (loader instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+    }
+
+    private void put(String id) {
+        synchronized (this) {
+            if (rebuildBuffer != null) {
+                rebuildBuffer.add(id);
+            }
+        }
+
+        BloomFilter current = filter;
+        if (current == null) {
+            // 폐기 목록은 Redis에 먼저 저장되므로 필터를 만들 때 함께 읽힌다.
+            requestReload();
+            return;
+        }
+
+        current.put(id);
+
+        // 예상 개수를 넘으면 다시 만든다. (Redis의 폐기 수 두 배 크기, 방금 넣은 jti도 함께 읽힌다)
+        if (current.approximateCount() > current.getExpectedInsertions()) {
+            requestReload();
+        }
+    }
+
+    // 필터 생성/재생성을 전용 스레드에 맡긴다. (이미 진행 중이거나, 필터가 없고 재시도 대기 중이면 무시)
+    private void requestReload() {
+        if (filter == null && System.currentTimeMillis() < retryAt) {
+            return;
+        }
+        if (!loading.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            loader.execute(this::reload);
+        } catch (RejectedExecutionException e) {
+            loading.set(false);
+        }
+    }
+
+    // loading을 잡은 스레드에서만 호출
+    private void reload() {
+        try {
+            synchronized (this) {
+                rebuildBuffer = new ArrayList<>();
+            }
+
+            // 읽는 동안 추가된 jti는 기존 필터와 rebuildBuffer에 함께 넣고, 교체 직전에 새 필터로 옮긴다.
+            BloomFilter rebuilt = null;
+            try {
+                rebuilt = load();
+                failures = 0;
+            } catch (Exception e) {
+                int failed = ++failures;
+                long delay = Math.min(MAX_RETRY_MS, MIN_RETRY_MS << Math.min(failed - 1, 16));
+                retryAt = System.currentTimeMillis() + delay;
+                log.warn("[토큰 폐기 필터]: 생성 실패 {}회, {}ms 후 다시 시도 (기존 필터 유지)", failed, delay, e);
+            } finally {
+                synchronized (this) {
+                    if (rebuilt != null) {
+                        rebuildBuffer.forEach(rebuilt::put);
+                        filter = rebuilt;
+                    }
+                    rebuildBuffer = null;
+                }
+            }
+        } finally {
+            loading.set(false);
+        }
+    }
+
+    // 만료된 항목을 지우고 남은 jti로 새 필터 생성
+    private BloomFilter load() {
+        RScoredSortedSet<String> revoked = revokedSet();
+        revoked.removeRangeByScore(0, true, System.currentTimeMillis(), true);
+
+        Collection<String> ids = revoked.readAll();
+        BloomFilter loaded = new BloomFilter(Math.max(minCapacity, ids.size() * 2L), falsePositiveRate);
+        ids.forEach(loaded::put);
+
+        log.info("[토큰 폐기 필터]: 폐기 토큰 {}개, 용량 {}", ids.size(), loaded.getExpectedInsertions());
+        return loaded;
+    }
+
+    private RScoredSortedSet<String> revokedSet() {
+        return redissonClient.getScoredSortedSet(REVOKED_KEY, StringCodec.INSTANCE);
+    }
+
+    private RTopic topic() {
+        return redissonClient.getTopic(TOPIC, StringCodec.INSTANCE);
+    }
+}
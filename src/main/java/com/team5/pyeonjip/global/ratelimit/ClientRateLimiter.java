@@ -0,0 +1,99 @@
+package com.team5.pyeonjip.global.ratelimit;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 클라이언트별 토큰 버킷.
+ * - 클라이언트마다 capacity개까지 쌓이는 토큰을 초당 refillPerSecond개씩 채우고, 요청마다 하나씩 쓴다.
+ * - 인스턴스 메모리에만 두므로 인스턴스가 여러 대면 전체 허용량은 그 배수가 된다.
+ * - 추적하는 클라이언트가 maxClients를 넘으면 토큰이 가득 찬(한동안 요청이 없던) 버킷부터 지우고,
+ *   그래도 가득 차 있으면 가장 오래 요청이 없던 버킷을 EVICT_RATIO만큼만 지운다. (최근에 제한된 클라이언트는 유지)
+ */
+public class ClientRateLimiter {
+
+    private static final double EVICT_RATIO = 0.1;
+
+    private final double capacity;
+    private final double refillPerNano;
+    private final int maxClients;
+
+    private final Map<String, Bucket> buckets = new ConcurrentHashMap<>();
+
+    public ClientRateLimiter(int capacity, double refillPerSecond, int maxClients) {
+        this.capacity = capacity;
+        this.refillPerNano = refillPerSecond / TimeUnit.SECONDS.toNanos(1);
+        this.maxClients = maxClients;
+    }
+
+    // 토큰이 있으면 하나 쓰고 true
+    public boolean tryAcquire(String client) {
+        long now = System.nanoTime();
+
+        Bucket bucket = buckets.get(client);
+        if (bucket == null) {
+            if (buckets.size() >= maxClients) {
+                evictIdle(now);
+            }
+            bucket = buckets.computeIfAbsent(client, key -> new Bucket(capacity, now));
+        }
+        return bucket.tryAcquire(now);
+    }
+
+    // 토큰 하나가 채워질 때까지 남은 초 (Retry-After)
+    public long secondsUntilRefill() {
+        return Math.max(1L, (long) Math.ceil(1.0 / (refillPerNano * TimeUnit.SECONDS.toNanos(1))));
+    }
+
+    private void evictIdle(long now) {
+        buckets.values().removeIf(bucket -> bucket.isFull(now));
+
+        // 모두 사용 중이면 가장 오래 요청이 없던 버킷만 지운다. (전부 비우면 공격 중인 클라이언트의 제한도 풀림)
+        int excess = buckets.size() - maxClients + 1;
+        if (excess > 0) {
+            int evictCount = Math.max(excess, (int) (maxClients * EVICT_RATIO));
+            buckets.entrySet().stream()
+                    .sorted(Comparator.comparingLong(entry -> entry.getValue().usedAt))
+                    .limit(evictCount)
+                    .map(Map.Entry::getKey)
+                    .toList()
+                    .forEach(buckets::remove);
+        }
+    }
+
+    private final class Bucket {
+        private double tokens;
+        private long refilledAt;
+        private volatile long usedAt;
+
+        private Bucket(double tokens, long refilledAt) {
+            this.tokens = tokens;
+            this.refilledAt = refilledAt;
+            this.usedAt = refilledAt;
+        }
+
+        private synchronized boolean tryAcquire(long now) {
+            refill(now);
+            usedAt = now;
+            if (tokens < 1) {
+                return false;
+            }
+            tokens--;
+            return true;
+        }
+
+        private synchronized boolean isFull(long now) {
+            refill(now);
+            return tokens >= capacity;
+        }
+
+        private void refill(long now) {
+            if (now > refilledAt) {
+                tokens = Math.min(capacity, tokens + (now - refilledAt) * refillPerNano);
+                refilledAt = now;
+            }
+        }
+    }
+}
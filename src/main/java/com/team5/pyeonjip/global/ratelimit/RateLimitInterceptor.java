@@ -0,0 +1,45 @@
+package com.team5.pyeonjip.global.ratelimit;
+
+import com.team5.pyeonjip.global.exception.ErrorCode;
+import com.team5.pyeonjip.global.exception.GlobalException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * 요청 수 제한.
+ * - 로그인 사용자는 이메일, 그 외에는 클라이언트 IP 기준으로 토큰 버킷을 적용한다.
+ *   (프록시 뒤에서는 server.forward-headers-strategy 설정으로 실제 IP가 remoteAddr에 오도록 한다.)
+ * - 제한을 넘으면 컨트롤러를 실행하지 않고 429와 Retry-After를 반환한다.
+ */
+public class RateLimitInterceptor implements HandlerInterceptor {
+
+    private final ClientRateLimiter limiter;
+
+    public RateLimitInterceptor(ClientRateLimiter limiter) {
+        this.limiter = limiter;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (limiter.tryAcquire(resolveClient(request))) {
+            return true;
+        }
+
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(limiter.secondsUntilRefill()));
+        throw new GlobalException(ErrorCode.TOO_MANY_REQUESTS);
+    }
+
+    private String resolveClient(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.isAuthenticated()
+                && !(authentication instanceof AnonymousAuthenticationToken)) {
+            return "user:" + authentication.getName();
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+}
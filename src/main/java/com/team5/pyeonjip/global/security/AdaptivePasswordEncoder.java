@@ -0,0 +1,57 @@
+package com.team5.pyeonjip.global.security;
+
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 알고리즘 접두사({bcrypt}, {pbkdf2@SpringSecurity_v5_8})로 해시를 구분하는 PasswordEncoder.
+ * - 접두사가 없는 기존 해시는 BCrypt로 검증한다.
+ * - 다른 알고리즘/접두사 없는 해시와, cost가 현재 설정보다 낮은 BCrypt 해시는 upgradeEncoding이 true다.
+ * - allowDowngrade(cost를 설정으로 고정한 경우)면 cost가 더 높은 해시도 다시 해시해 목표 지연 시간에 맞춘다.
+ *   서버마다 측정한 cost는 다를 수 있으므로, 측정값을 쓸 때 내리기까지 하면 로그인마다 해시가 오가며 다시 저장된다.
+ */
+public class AdaptivePasswordEncoder implements PasswordEncoder {
+
+    private static final Pattern BCRYPT_COST = Pattern.compile("^\\{bcrypt}\\$2[aby]?\\$(\\d{2})\\$");
+
+    private final DelegatingPasswordEncoder delegate;
+    private final int bcryptStrength;
+    private final boolean allowDowngrade;
+
+    public AdaptivePasswordEncoder(DelegatingPasswordEncoder delegate, int bcryptStrength, boolean allowDowngrade) {
+        this.delegate = delegate;
+        this.bcryptStrength = bcryptStrength;
+        this.allowDowngrade = allowDowngrade;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return delegate.encode(rawPassword);
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return delegate.matches(rawPassword, encodedPassword);
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        if (encodedPassword == null || encodedPassword.isEmpty()) {
+            return false;
+        }
+        if (delegate.upgradeEncoding(encodedPassword)) {
+            return true;
+        }
+
+        // 현재 알고리즘이 BCrypt일 때만 여기까지 온다.
+        Matcher matcher = BCRYPT_COST.matcher(encodedPassword);
+        if (!matcher.find()) {
+            return false;
+        }
+        int cost = Integer.parseInt(matcher.group(1));
+        return cost < bcryptStrength || (allowDowngrade && cost > bcryptStrength);
+    }
+}
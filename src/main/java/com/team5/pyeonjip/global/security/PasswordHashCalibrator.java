@@ -0,0 +1,41 @@
+package com.team5.pyeonjip.global.security;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+
+/**
+ * 비밀번호 해시 비용 측정.
+ * - BCrypt는 cost가 1 오를 때마다 시간이 두 배가 되므로, 낮은 cost에서 한 번 측정해 목표 시간에 맞는 cost를 구한다.
+ */
+public final class PasswordHashCalibrator {
+
+    private static final int PROBE_STRENGTH = 8;
+    private static final String PROBE_PASSWORD = "calibration-password";
+
+    private PasswordHashCalibrator() {
+    }
+
+    // 해시 한 번이 target을 넘지 않는 가장 높은 cost (min~max 범위)
+    public static int bcryptStrength(Duration target, int minStrength, int maxStrength) {
+        long probeNanos = measure(new BCryptPasswordEncoder(PROBE_STRENGTH), 3).toNanos();
+
+        int strength = PROBE_STRENGTH;
+        while (strength < maxStrength && probeNanos << (strength + 1 - PROBE_STRENGTH) <= target.toNanos()) {
+            strength++;
+        }
+        return Math.max(minStrength, Math.min(maxStrength, strength));
+    }
+
+    // rounds번 해시해 가장 짧은 시간 (첫 실행의 JIT/클래스 로딩 영향을 줄임)
+    public static Duration measure(PasswordEncoder encoder, int rounds) {
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < rounds; i++) {
+            long start = System.nanoTime();
+            encoder.encode(PROBE_PASSWORD);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return Duration.ofNanos(best);
+    }
+}
@@ -0,0 +1,23 @@
+package com.team5.pyeonjip.global.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+public final class HashUtils {
+
+    private HashUtils() {
+    }
+
+    // SHA-256 (URL-safe Base64, 43자). 토큰 원문 대신 저장/조회 키로 사용
+    public static String sha256(String value) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            // 모든 JVM이 SHA-256을 지원한다.
+            throw new IllegalStateException(e);
+        }
+    }
+}
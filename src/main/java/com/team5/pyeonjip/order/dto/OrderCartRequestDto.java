@@ -13,4 +13,5 @@ public class OrderCartRequestDto {
     private String email;
     private Long cartTotalPrice; // 쿠폰 적용 후 가격 totalPrice
     private List<OrderDetailDto> orderDetails; // 상품명, 상품 수량, 상품 1개 가격, 상품 이미지
+    private Long couponId; // 사용할 쿠폰 (있으면 cartTotalPrice는 쿠폰 적용 전 가격이며 서버에서 할인)
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 package com.team5.pyeonjip.order.entity;
 
 import com.team5.pyeonjip.global.entity.BaseTimeEntity;
+import com.team5.pyeonjip.global.entity.IdSequence;
 import com.team5.pyeonjip.order.enums.DeliveryStatus;
 import jakarta.persistence.*;
 import lombok.*;
@@ -12,7 +13,10 @@ import org.hibernate.annotations.Comment;
 @AllArgsConstructor
 public class Delivery extends BaseTimeEntity {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "delivery_id_generator")
+    @TableGenerator(name = "delivery_id_generator", table = IdSequence.TABLE, pkColumnName = IdSequence.PK_COLUMN,
+            valueColumnName = IdSequence.VALUE_COLUMN, pkColumnValue = "delivery", allocationSize = IdSequence.ALLOCATION_SIZE)
     @Column(updatable = false)
     private Long id;
 
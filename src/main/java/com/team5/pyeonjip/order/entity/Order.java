@@ -1,6 +1,7 @@
 package com.team5.pyeonjip.order.entity;
 
 import com.team5.pyeonjip.global.entity.BaseTimeEntity;
+import com.team5.pyeonjip.global.entity.IdSequence;
 import com.team5.pyeonjip.order.enums.OrderStatus;
 import com.team5.pyeonjip.user.entity.User;
 import jakarta.persistence.*;
@@ -20,7 +21,10 @@ import java.util.List;
 @Where(clause = "deleted = false")
 public class Order extends BaseTimeEntity {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "order_id_generator")
+    @TableGenerator(name = "order_id_generator", table = IdSequence.TABLE, pkColumnName = IdSequence.PK_COLUMN,
+            valueColumnName = IdSequence.VALUE_COLUMN, pkColumnValue = "order", allocationSize = IdSequence.ALLOCATION_SIZE)
     @Column(updatable = false)
     private Long id;
 
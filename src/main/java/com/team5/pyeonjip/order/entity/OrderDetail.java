@@ -1,6 +1,7 @@
 package com.team5.pyeonjip.order.entity;
 
 import com.team5.pyeonjip.global.entity.BaseTimeEntity;
+import com.team5.pyeonjip.global.entity.IdSequence;
 import com.team5.pyeonjip.product.entity.ProductDetail;
 import jakarta.persistence.*;
 import lombok.*;
@@ -11,7 +12,10 @@ import org.hibernate.annotations.Comment;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class OrderDetail extends BaseTimeEntity {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "order_detail_id_generator")
+    @TableGenerator(name = "order_detail_id_generator", table = IdSequence.TABLE, pkColumnName = IdSequence.PK_COLUMN,
+            valueColumnName = IdSequence.VALUE_COLUMN, pkColumnValue = "order_detail", allocationSize = IdSequence.ALLOCATION_SIZE)
     @Column(updatable = false)
     private Long id;
 
@@ -1,5 +1,6 @@
 package com.team5.pyeonjip.order.service;
 
+import com.team5.pyeonjip.coupon.service.CouponRedemptionService;
 import com.team5.pyeonjip.global.exception.ErrorCode;
 import com.team5.pyeonjip.global.exception.GlobalException;
 import com.team5.pyeonjip.global.exception.ResourceNotFoundException;
@@ -39,6 +40,7 @@ public class OrderServiceImpl implements OrderService {
     private final OrderDetailRepository orderDetailRepository;
     private final ProductDetailRepository productDetailRepository;
     private final ProductDetailService productDetailService;
+    private final CouponRedemptionService couponRedemptionService;
 
     private ProductDetail findProductDetailById(Long productId) { // 주문을 동시에 하게 되면, 재고 이상으로 주문이 될 수 있다.
         return productDetailRepository.findById(productId)
@@ -53,15 +55,26 @@ public class OrderServiceImpl implements OrderService {
         // 배송 정보 생성
         Delivery delivery = createDelivery(combinedOrderDto);
 
+        // 쿠폰 사용 (주문이 롤백되면 함께 롤백)
+        Long couponId = combinedOrderDto.getOrderCartRequestDto().getCouponId();
+        long couponDiscount = couponId != null ? couponRedemptionService.redeem(couponId, userEmail) : 0L;
+
         // 주문 생성
-        Long totalPrice = calculateTotalPrice(user, combinedOrderDto.getOrderCartRequestDto().getCartTotalPrice());
+        Long totalPrice = calculateTotalPrice(user, combinedOrderDto.getOrderCartRequestDto().getCartTotalPrice(), couponDiscount);
         Order order = createOrderEntity(combinedOrderDto, delivery, user, totalPrice);
 
-        // 주문 상세 정보 생성 및 재고 감소 처리
-        combinedOrderDto.getOrderRequestDto().getOrderDetails().forEach(orderDetailDto -> {
-            reduceStock(orderDetailDto);
-            createOrderDetail(order, orderDetailDto);
-        });
+        if (couponId != null) {
+            couponRedemptionService.record(couponId, order.getId(), userEmail, couponDiscount);
+        }
+
+        // 주문 상세 정보 생성 및 재고 감소 처리 (주문 상세는 한 번에 배치 insert)
+        List<OrderDetail> orderDetails = combinedOrderDto.getOrderRequestDto().getOrderDetails().stream()
+                .map(orderDetailDto -> {
+                    reduceStock(orderDetailDto);
+                    return createOrderDetail(order, orderDetailDto);
+                })
+                .toList();
+        orderDetailRepository.saveAll(orderDetails);
 
         // 사용자 회원 등급 업데이트
         updateUserGrade(user);
@@ -109,6 +122,7 @@ public class OrderServiceImpl implements OrderService {
             }
             productDetail.setQuantity(productDetail.getQuantity() - orderDetailDto.getQuantity());
             productDetailRepository.save(productDetail);
+            productDetailService.markChanged(productDetail);
 
         } catch (InterruptedException e) {
             throw new GlobalException(ErrorCode.LOCK_ACQUIRE_FAILED);
@@ -120,10 +134,9 @@ public class OrderServiceImpl implements OrderService {
     }
 
     // 주문 상세 생성
-    private void createOrderDetail(Order order, OrderDetailDto orderDetailDto) {
+    private OrderDetail createOrderDetail(Order order, OrderDetailDto orderDetailDto) {
         ProductDetail productDetail = findProductDetailById(orderDetailDto.getProductDetailId());
-        OrderDetail orderDetail = OrderMapper.toOrderDetailEntity(order, productDetail, orderDetailDto);
-        orderDetailRepository.save(orderDetail);
+        return OrderMapper.toOrderDetailEntity(order, productDetail, orderDetailDto);
     }
 
     // 회원 등급 업데이트
@@ -166,14 +179,22 @@ public class OrderServiceImpl implements OrderService {
 
     // 총 금액 계산
     public Long calculateTotalPrice(User user, Long cartTotalPrice) {
-        // 1. 회원 등급에 따른 할인율 계산
+        return calculateTotalPrice(user, cartTotalPrice, 0L);
+    }
+
+    // 총 금액 계산 (couponDiscount: 쿠폰 할인율 * 100)
+    public Long calculateTotalPrice(User user, Long cartTotalPrice, long couponDiscount) {
+        // 1. 쿠폰 할인 적용
+        long couponAppliedPrice = Math.round(cartTotalPrice * (100 - couponDiscount) / 100.0);
+
+        // 2. 회원 등급에 따른 할인율 계산
         double discountRate = calculateDiscountRate(user);
 
-        // 2. 회원 등급에 따른 배송비 계산
+        // 3. 회원 등급에 따른 배송비 계산
         Long deliveryPrice = calculateDeliveryPrice(user);
 
-        // 3. 최종 금액 계산
-        return Math.round(cartTotalPrice * (1 - discountRate)) + deliveryPrice;
+        // 4. 최종 금액 계산
+        return Math.round(couponAppliedPrice * (1 - discountRate)) + deliveryPrice;
     }
 
     // 주문 조회
@@ -210,6 +231,9 @@ public class OrderServiceImpl implements OrderService {
         // 재고 복구
         restoreProductStock(order);
 
+        // 사용한 쿠폰 복구
+        couponRedemptionService.release(orderId);
+
         updateUserGradeAfterCancel(order.getUser(), order.getTotalPrice());
     }
 
@@ -266,9 +290,13 @@ public class OrderServiceImpl implements OrderService {
         Long cartTotalPrice = orderCartRequestDto
                 .getCartTotalPrice();
 
+        // 쿠폰은 사용 가능 여부만 확인 (사용 처리는 주문 생성 시)
+        Long couponId = orderCartRequestDto.getCouponId();
+        long couponDiscount = couponId != null ? couponRedemptionService.preview(couponId) : 0L;
+
         double discountRate = calculateDiscountRate(user);
         Long deliveryPrice = calculateDeliveryPrice(user);
-        Long totalPrice = Math.round(cartTotalPrice * (1 - discountRate)) + deliveryPrice;
+        Long totalPrice = calculateTotalPrice(user, cartTotalPrice, couponDiscount);
 
         List<OrderDetailDto> orderDetails = orderCartRequestDto.getOrderDetails();
 
@@ -10,9 +10,11 @@ import com.team5.pyeonjip.product.service.ProductService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
 
 import java.util.List;
 
@@ -74,6 +76,13 @@ public class AdminProductController {
         return ResponseEntity.ok(createdImage);
     }
 
+    // 7-1. 제품 이미지 파일 업로드 (변환본 자동 생성)
+    @PostMapping(value = "/{productId}/images/upload", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ProductImage> uploadProductImage(@PathVariable("productId") Long productId, @RequestPart("file") MultipartFile file) {
+        ProductImage uploadedImage = productImageService.uploadProductImage(productId, file);
+        return ResponseEntity.ok(uploadedImage);
+    }
+
     // 8. 제품 이미지 삭제
     @DeleteMapping("/images/{imageId}")
     public ResponseEntity<Void> deleteProductImage(@PathVariable("imageId") Long imageId) {
@@ -32,6 +32,13 @@ public class ProductController {
         return ResponseEntity.ok(products);
     }
 
+    // CategoryId로 하위 카테고리를 포함한 제품 목록 조회
+    @GetMapping("/category/{categoryId}/all")
+    public ResponseEntity<List<ProductResponse>> getProductsUnderCategory(@PathVariable("categoryId") Long categoryId) {
+        List<ProductResponse> products = productService.getProductsUnderCategory(categoryId);
+        return ResponseEntity.ok(products);
+    }
+
     // ProductId로 단일 상품 조회
     @GetMapping("/{productId}")
     public ResponseEntity<ProductResponse> getProductById(@PathVariable("productId") Long productId) {
@@ -0,0 +1,106 @@
+package com.team5.pyeonjip.product.controller;
+
+import com.team5.pyeonjip.global.exception.ErrorCode;
+import com.team5.pyeonjip.global.exception.GlobalException;
+import com.team5.pyeonjip.product.enums.ImageVariant;
+import com.team5.pyeonjip.product.storage.ImageStore;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+// 저장된 이미지 변환본 전송
+@RestController
+@RequestMapping("/api/products/images")
+@RequiredArgsConstructor
+public class ProductImageFileController {
+
+    // 해시 기반 경로라 내용이 바뀌지 않으므로 1년 동안 캐시
+    private static final String CACHE_CONTROL = "public, max-age=31536000, immutable";
+
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private final ImageStore imageStore;
+
+    @GetMapping("/{hash}/{variant}")
+    public void getImage(@PathVariable("hash") String hash,
+                         @PathVariable("variant") String variantName,
+                         HttpServletRequest request,
+                         HttpServletResponse response) throws IOException {
+
+        ImageVariant variant = ImageVariant.fromPathName(variantName)
+                .orElseThrow(() -> new GlobalException(ErrorCode.PRODUCT_IMAGE_NOT_FOUND));
+
+        // 변환본이 아직 생성되지 않았다면 원본으로 대체 (원본 ETag 사용)
+        ImageVariant served = variant;
+        Path path = imageStore.find(hash, variant).orElse(null);
+        if (path == null && variant != ImageVariant.ORIGINAL) {
+            served = ImageVariant.ORIGINAL;
+            path = imageStore.find(hash, ImageVariant.ORIGINAL).orElse(null);
+        }
+        if (path == null) {
+            throw new GlobalException(ErrorCode.PRODUCT_IMAGE_NOT_FOUND);
+        }
+
+        String etag = "\"" + hash + "-" + served.pathName() + "\"";
+
+        if (matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            response.setHeader(HttpHeaders.ETAG, etag);
+            return;
+        }
+
+        // 원본 대체 응답은 곧 변환본으로 바뀌므로 오래 캐시하지 않는다.
+        response.setHeader(HttpHeaders.CACHE_CONTROL, served == variant ? CACHE_CONTROL : "no-cache");
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setContentType(MediaType.IMAGE_JPEG_VALUE);
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            response.setContentLengthLong(size);
+
+            // Tomcat이 sendfile을 지원하면 커널에서 바로 전송
+            if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+                request.setAttribute(SENDFILE_FILENAME, path.toString());
+                request.setAttribute(SENDFILE_START, 0L);
+                request.setAttribute(SENDFILE_END, size);
+                return;
+            }
+
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = 0;
+            while (position < size) {
+                position += channel.transferTo(position, size - position, out);
+            }
+        }
+    }
+
+    private boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.equals("*") || value.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,16 @@
+package com.team5.pyeonjip.product.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 옵션 재고/가격 조회 결과 (옵션 + 상품 이름만 조회)
+@Getter
+@AllArgsConstructor
+public class ProductOptionView {
+    private Long optionId;
+    private String productName;
+    private String optionName;
+    private Long price;
+    private Long stock;
+    private String mainImage;
+}
@@ -15,6 +15,8 @@ public class ProductResponse {
     private Long categoryId;  // 추가된 카테고리 ID
     private List<ProductDetailResponse> productDetails; // 내부 클래스 사용
     private List<ProductImageResponse> productImages;   // 이미지 정보 목록
+    private long ratingCount;     // 평점 개수
+    private double averageRating; // 평균 평점
 
     @Getter
     @Setter
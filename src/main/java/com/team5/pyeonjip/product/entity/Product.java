@@ -3,6 +3,7 @@ package com.team5.pyeonjip.product.entity;
 import com.fasterxml.jackson.annotation.JsonManagedReference;
 import com.team5.pyeonjip.category.entity.Category;
 import com.team5.pyeonjip.comment.entity.Comment;
+import com.team5.pyeonjip.global.entity.IdSequence;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -18,7 +19,9 @@ import java.util.List;
 public class Product {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "product_id_generator")
+    @TableGenerator(name = "product_id_generator", table = IdSequence.TABLE, pkColumnName = IdSequence.PK_COLUMN,
+            valueColumnName = IdSequence.VALUE_COLUMN, pkColumnValue = "product", allocationSize = IdSequence.ALLOCATION_SIZE)
     private Long id;
 
     private String name;
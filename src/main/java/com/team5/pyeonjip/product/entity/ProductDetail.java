@@ -1,6 +1,7 @@
 package com.team5.pyeonjip.product.entity;
 
 import com.fasterxml.jackson.annotation.JsonBackReference;
+import com.team5.pyeonjip.global.entity.IdSequence;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -13,7 +14,9 @@ import lombok.*;
 public class ProductDetail {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "product_detail_id_generator")
+    @TableGenerator(name = "product_detail_id_generator", table = IdSequence.TABLE, pkColumnName = IdSequence.PK_COLUMN,
+            valueColumnName = IdSequence.VALUE_COLUMN, pkColumnValue = "product_detail", allocationSize = IdSequence.ALLOCATION_SIZE)
     private Long id;
 
     private String name; //옵션 이름(색깔-사이즈)
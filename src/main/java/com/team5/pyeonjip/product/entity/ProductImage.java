@@ -1,6 +1,7 @@
 package com.team5.pyeonjip.product.entity;
 
 import com.fasterxml.jackson.annotation.JsonBackReference;
+import com.team5.pyeonjip.global.entity.IdSequence;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -13,11 +14,16 @@ import lombok.*;
 public class ProductImage {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "product_image_id_generator")
+    @TableGenerator(name = "product_image_id_generator", table = IdSequence.TABLE, pkColumnName = IdSequence.PK_COLUMN,
+            valueColumnName = IdSequence.VALUE_COLUMN, pkColumnValue = "product_image", allocationSize = IdSequence.ALLOCATION_SIZE)
     private Long id;
 
     private String imageUrl; // 이미지 URL
 
+    @Column(length = 64)
+    private String imageHash; // 업로드 이미지의 콘텐츠 해시 (외부 URL 이미지는 null)
+
     @ManyToOne
     @JoinColumn(name = "product_id")
     @JsonBackReference
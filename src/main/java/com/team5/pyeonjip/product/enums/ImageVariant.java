@@ -0,0 +1,31 @@
+package com.team5.pyeonjip.product.enums;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+public enum ImageVariant {
+    ORIGINAL(0), // 원본 해상도
+    THUMBNAIL(320), // 목록 화면용
+    DETAIL(1080); // 상세 화면용
+
+    private final int maxWidth; // 리사이즈 최대 너비 (0이면 원본 유지)
+
+    ImageVariant(int maxWidth) {
+        this.maxWidth = maxWidth;
+    }
+
+    public int getMaxWidth() {
+        return maxWidth;
+    }
+
+    // URL 경로에 사용하는 이름
+    public String pathName() {
+        return name().toLowerCase();
+    }
+
+    public static Optional<ImageVariant> fromPathName(String pathName) {
+        return Arrays.stream(values())
+                .filter(variant -> variant.pathName().equals(pathName))
+                .findFirst();
+    }
+}
@@ -5,6 +5,7 @@ import com.team5.pyeonjip.product.dto.ProductResponse;
 import com.team5.pyeonjip.product.entity.Product;
 import com.team5.pyeonjip.product.entity.ProductDetail;
 import com.team5.pyeonjip.product.entity.ProductImage;
+import com.team5.pyeonjip.product.enums.ImageVariant;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
@@ -24,8 +25,15 @@ public class ProductMapper {
         return new ProductDetail(null, detailRequest.getName(), detailRequest.getPrice(), detailRequest.getQuantity(), detailRequest.getMainImage(), product);
     }
 
-    // Product Entity -> ProductResponse DTO 변환
+    private static final String IMAGE_FILE_PATH = "/api/products/images/";
+
+    // Product Entity -> ProductResponse DTO 변환 (상세 화면용 이미지)
     public ProductResponse toDto(Product product, List<ProductDetail> productDetails, List<ProductImage> productImages) {
+        return toDto(product, productDetails, productImages, ImageVariant.DETAIL);
+    }
+
+    // 목록 화면은 THUMBNAIL, 상세 화면은 DETAIL 변환본 URL을 내려준다.
+    public ProductResponse toDto(Product product, List<ProductDetail> productDetails, List<ProductImage> productImages, ImageVariant variant) {
         List<ProductResponse.ProductDetailResponse> detailResponses = Optional.ofNullable(productDetails)
                 .orElse(List.of()) // null인 경우 빈 리스트로 처리
                 .stream()
@@ -35,11 +43,19 @@ public class ProductMapper {
         List<ProductResponse.ProductImageResponse> imageResponses = Optional.ofNullable(productImages)
                 .orElse(List.of()) // null인 경우 빈 리스트로 처리
                 .stream()
-                .map(image -> new ProductResponse.ProductImageResponse(image.getId(), image.getImageUrl()))
+                .map(image -> new ProductResponse.ProductImageResponse(image.getId(), toImageUrl(image, variant)))
                 .collect(Collectors.toList());
 
         return new ProductResponse(product.getId(), product.getName(), product.getDescription(),
-                product.getCategory() != null ? product.getCategory().getId() : null, detailResponses, imageResponses);
+                product.getCategory() != null ? product.getCategory().getId() : null, detailResponses, imageResponses, 0L, 0.0);
+    }
+
+    // 업로드된 이미지는 변환본 URL, 외부 URL로 등록된 이미지는 그대로 사용
+    private String toImageUrl(ProductImage image, ImageVariant variant) {
+        if (image.getImageHash() == null) {
+            return image.getImageUrl();
+        }
+        return IMAGE_FILE_PATH + image.getImageHash() + "/" + variant.pathName();
     }
 
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.team5.pyeonjip.product.repository;
 
+import com.team5.pyeonjip.product.dto.ProductOptionView;
 import com.team5.pyeonjip.product.entity.ProductDetail;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
@@ -7,6 +8,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 //todo:피드백: 쿼리시에 스키마 명까지 입력하는 습관이 좋다
@@ -16,6 +18,20 @@ public interface ProductDetailRepository extends JpaRepository<ProductDetail, Lo
     @Query("SELECT pd FROM ProductDetail pd WHERE pd.product.id = :product_Id")
     List<ProductDetail> findByProductId(@Param("product_Id") Long productId);
 
+    // 재고가 있는 옵션의 (상품 id, 옵션 id) (카테고리 통계 초기화용)
+    @Query("SELECT pd.product.id, pd.id FROM ProductDetail pd WHERE pd.quantity > 0")
+    List<Object[]> findInStockIds();
+
+    // 옵션 재고/가격 + 상품 이름 (IN 쿼리 한 번, 엔티티 로딩 없음)
+    @Query("SELECT new com.team5.pyeonjip.product.dto.ProductOptionView(pd.id, p.name, pd.name, pd.price, pd.quantity, pd.mainImage) " +
+            "FROM ProductDetail pd JOIN pd.product p " +
+            "WHERE pd.id IN :ids")
+    List<ProductOptionView> findOptionViews(@Param("ids") Collection<Long> ids);
+
+    // 존재하는 옵션 id만 반환
+    @Query("SELECT pd.id FROM ProductDetail pd WHERE pd.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
     // 특정 Product ID에 연결된 모든 ProductDetail 삭제
     //todo: cascade 옵션으로 삭제
 //    @Modifying
@@ -2,9 +2,12 @@ package com.team5.pyeonjip.product.repository;
 
 import com.team5.pyeonjip.product.entity.Product;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -20,4 +23,20 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
     List<Product> findAllWithDetailsAndImages();
 
     List<Product> findByCategoryId(Long categoryId);
+
+    // 삭제되는 카테고리의 상품을 카테고리 없음으로 일괄 변경
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Product p SET p.category = NULL WHERE p.category.id IN :categoryIds")
+    int detachCategories(@Param("categoryIds") Collection<Long> categoryIds);
+
+    // 카테고리와 모든 하위 카테고리의 상품 (클로저 테이블 조인 한 번)
+    @Query("SELECT p FROM Product p " +
+            "JOIN CategoryClosure cc ON cc.descendantId = p.category.id " +
+            "WHERE cc.ancestorId = :categoryId " +
+            "ORDER BY p.id")
+    List<Product> findAllUnderCategory(@Param("categoryId") Long categoryId);
+
+    // 상품별 카테고리 id (카테고리 통계 초기화용)
+    @Query("SELECT p.id, p.category.id FROM Product p")
+    List<Object[]> findAllCategoryIds();
 }
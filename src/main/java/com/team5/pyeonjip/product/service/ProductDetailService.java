@@ -1,6 +1,8 @@
 package com.team5.pyeonjip.product.service;
 
-import com.team5.pyeonjip.cart.repository.CartRepository;
+import com.team5.pyeonjip.cart.storage.CartStore;
+import com.team5.pyeonjip.category.utils.CategoryStatistics;
+import com.team5.pyeonjip.global.cache.CatalogVersionRegistry;
 import com.team5.pyeonjip.global.exception.ErrorCode;
 import com.team5.pyeonjip.global.exception.GlobalException;
 import com.team5.pyeonjip.product.dto.ProductRequest;
@@ -20,7 +22,10 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class ProductDetailService {
     private final ProductDetailRepository productDetailRepository;
-    private final CartRepository cartRepository;
+    private final CartStore cartStore;
+    private final CatalogVersionRegistry catalogVersionRegistry;
+    private final CategoryStatistics categoryStatistics;
+    private final StockView stockView;
 
     // Create - 옵션 생성
     @Transactional
@@ -29,6 +34,8 @@ public class ProductDetailService {
                 .map(detailRequest -> new ProductDetail(product, detailRequest.getName(), detailRequest.getPrice(), detailRequest.getQuantity()))
                 .collect(Collectors.toList());
         productDetailRepository.saveAll(productDetails);
+        productDetails.forEach(categoryStatistics::optionChanged);
+        catalogVersionRegistry.productChanged(product.getId());
     }
 
     // Read - 상품의 모든 옵션 조회
@@ -52,6 +59,11 @@ public class ProductDetailService {
         });
 
         productDetailRepository.saveAll(existingDetails);
+        existingDetails.forEach(detail -> {
+            categoryStatistics.optionChanged(detail);
+            stockView.evict(detail.getId());
+        });
+        catalogVersionRegistry.productChanged(product.getId());
     }
 
     // Delete - 옵션 삭제 및 연관된 CartItem, OrderItem 삭제
@@ -61,12 +73,17 @@ public class ProductDetailService {
 
         // CartItem 및 OrderItem 삭제 로직 추가
         for (ProductDetail detail : existingDetails) {
-            cartRepository.deleteByOptionId(detail.getId());  // 해당 ProductDetail과 연관된 CartItem 삭제
+            cartStore.removeOption(detail.getId());  // 해당 ProductDetail과 연관된 CartItem 삭제
 
         }
 
         // ProductDetail 삭제
         productDetailRepository.deleteAll(existingDetails);
+        existingDetails.forEach(detail -> {
+            categoryStatistics.optionRemoved(detail);
+            stockView.evict(detail.getId());
+        });
+        catalogVersionRegistry.productChanged(product.getId());
     }
 
     // Quantity Update - 수량 조절 메서드 추가
@@ -76,12 +93,23 @@ public class ProductDetailService {
                 .orElseThrow(() -> new GlobalException(ErrorCode.PRODUCT_DETAIL_NOT_FOUND));
         productDetail.setQuantity(productDetail.getQuantity() + quantity); // 수량 변경
         productDetailRepository.save(productDetail);
+        markChanged(productDetail);
+    }
+
+    // 재고 등 옵션 정보 변경 알림 (상품 조회 ETag, 카테고리별 재고 상품 수, 재고 조회 캐시 갱신)
+    public void markChanged(ProductDetail productDetail) {
+        if (productDetail.getProduct() != null) {
+            catalogVersionRegistry.productChanged(productDetail.getProduct().getId());
+            categoryStatistics.optionChanged(productDetail);
+        }
+        stockView.evict(productDetail.getId());
     }
 
     // 단일 ProductDetail 생성
     @Transactional
     public ProductDetail createProductDetail(Long productId, ProductDetail productDetail) {
         productDetail.setProduct(new Product(productId));  // Product와 연결
+        markChanged(productDetail);
         return productDetailRepository.save(productDetail);
     }
 
@@ -91,9 +119,14 @@ public class ProductDetailService {
         ProductDetail productDetail = productDetailRepository.findById(detailId)
                 .orElseThrow(() -> new GlobalException(ErrorCode.PRODUCT_DETAIL_NOT_FOUND));
 
-        cartRepository.deleteByOptionId(detailId);  // 해당 ProductDetail과 연관된 CartItem 삭제
+        cartStore.removeOption(detailId);  // 해당 ProductDetail과 연관된 CartItem 삭제
 
         productDetailRepository.delete(productDetail);
+        if (productDetail.getProduct() != null) {
+            catalogVersionRegistry.productChanged(productDetail.getProduct().getId());
+        }
+        categoryStatistics.optionRemoved(productDetail);
+        stockView.evict(detailId);
     }
 
     // 단일 ProductDetail 수정
@@ -107,6 +140,7 @@ public class ProductDetailService {
         existingDetail.setQuantity(updatedDetail.getQuantity());
         existingDetail.setMainImage(updatedDetail.getMainImage());
 
+        markChanged(existingDetail);
         return productDetailRepository.save(existingDetail);
     }
 
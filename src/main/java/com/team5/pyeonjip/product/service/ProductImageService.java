@@ -1,14 +1,17 @@
 package com.team5.pyeonjip.product.service;
 
+import com.team5.pyeonjip.global.cache.CatalogVersionRegistry;
 import com.team5.pyeonjip.global.exception.ErrorCode;
 import com.team5.pyeonjip.global.exception.GlobalException;
 import com.team5.pyeonjip.product.dto.ProductRequest;
 import com.team5.pyeonjip.product.entity.Product;
 import com.team5.pyeonjip.product.entity.ProductImage;
 import com.team5.pyeonjip.product.repository.ProductImageRepository;
+import com.team5.pyeonjip.product.repository.ProductRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.multipart.MultipartFile;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -18,6 +21,9 @@ import java.util.stream.Collectors;
 public class ProductImageService {
 
     private final ProductImageRepository productImageRepository;
+    private final ProductRepository productRepository;
+    private final ProductImageVariantService productImageVariantService;
+    private final CatalogVersionRegistry catalogVersionRegistry;
 
     // Read - 특정 상품의 모든 이미지 조회
     public List<ProductImage> getProductImagesByProduct(Product product) {
@@ -34,12 +40,29 @@ public class ProductImageService {
 
         // 데이터베이스에 저장
         productImageRepository.saveAll(productImages);
+        catalogVersionRegistry.productChanged(product.getId());
     }
 
     // 단일 이미지 생성
     @Transactional
     public ProductImage createProductImage(Long productId, ProductImage productImage) {
         productImage.setProduct(new Product(productId));  // Product와 연결
+        catalogVersionRegistry.productChanged(productId);
+        return productImageRepository.save(productImage);
+    }
+
+    // 이미지 파일 업로드 - 저장소에 원본/변환본을 저장하고 해시로 연결
+    @Transactional
+    public ProductImage uploadProductImage(Long productId, MultipartFile file) {
+        // 없는 상품이면 파일을 저장하기 전에 실패 (저장소에 고아 파일이 남지 않도록)
+        Product product = productRepository.findById(productId)
+                .orElseThrow(() -> new GlobalException(ErrorCode.PRODUCT_NOT_FOUND));
+
+        String hash = productImageVariantService.store(file);
+
+        ProductImage productImage = new ProductImage(product, null);
+        productImage.setImageHash(hash);
+        catalogVersionRegistry.productChanged(productId);
         return productImageRepository.save(productImage);
     }
 
@@ -50,5 +73,8 @@ public class ProductImageService {
                 .orElseThrow(() -> new GlobalException(ErrorCode.PRODUCT_IMAGE_NOT_FOUND));
 
         productImageRepository.delete(productImage);
+        if (productImage.getProduct() != null) {
+            catalogVersionRegistry.productChanged(productImage.getProduct().getId());
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,181 @@
+package com.team5.pyeonjip.product.service;
+
+import com.team5.pyeonjip.global.exception.ErrorCode;
+import com.team5.pyeonjip.global.exception.GlobalException;
+import com.team5.pyeonjip.product.enums.ImageVariant;
+import com.team5.pyeonjip.product.storage.ImageStore;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 상품 이미지 업로드 및 변환(리사이즈) 처리.
+ * - 원본은 업로드 요청에서 바로 저장하고, 목록/상세용 변환본은 크기가 제한된 작업 풀에서 비동기로 생성한다.
+ * - 작업 큐가 가득 차면 요청을 거절(503)하여 업로드 폭주가 서버 전체를 잡아먹지 않도록 한다.
+ * - JDK ImageIO에는 WebP 인코더가 없으므로 변환본은 품질을 낮춘 JPEG로 저장한다.
+ */
+@Slf4j
+@Service
+public class ProductImageVariantService {
+
+    private static final float ORIGINAL_QUALITY = 0.92f;
+    private static final float VARIANT_QUALITY = 0.8f;
+
+    private final ImageStore imageStore;
+    private final ThreadPoolExecutor executor;
+
+    public ProductImageVariantService(ImageStore imageStore,
+                                      @Value("${app.image.worker-threads:2}") int workerThreads,
+                                      @Value("${app.image.queue-capacity:100}") int queueCapacity) {
+        this.imageStore = imageStore;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(workerThreads, workerThreads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "image-variant-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    // 업로드 이미지를 저장하고 콘텐츠 해시를 반환
+    public String store(MultipartFile file) {
+        byte[] data;
+        try {
+            data = file.getBytes();
+        } catch (IOException e) {
+            throw new GlobalException(ErrorCode.INVALID_IMAGE_FILE);
+        }
+
+        BufferedImage image = readImage(data);
+        String hash = sha256(data);
+
+        // 이미 저장된 이미지라면 변환 작업을 다시 하지 않는다.
+        if (!imageStore.exists(hash, ImageVariant.ORIGINAL)) {
+            imageStore.save(hash, ImageVariant.ORIGINAL, encodeJpeg(image, ORIGINAL_QUALITY));
+        }
+
+        for (ImageVariant variant : ImageVariant.values()) {
+            if (variant != ImageVariant.ORIGINAL && !imageStore.exists(hash, variant)) {
+                submitVariant(hash, image, variant);
+            }
+        }
+
+        return hash;
+    }
+
+    private void submitVariant(String hash, BufferedImage source, ImageVariant variant) {
+        try {
+            executor.execute(() -> {
+                try {
+                    imageStore.save(hash, variant, encodeJpeg(resize(source, variant.getMaxWidth()), VARIANT_QUALITY));
+                } catch (Exception e) {
+                    log.error("[이미지 변환 실패]: {} [variant]: {}", hash, variant, e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            throw new GlobalException(ErrorCode.IMAGE_PROCESSING_BUSY);
+        }
+    }
+
+    private BufferedImage readImage(byte[] data) {
+        try {
+            BufferedImage image = ImageIO.read(new ByteArrayInputStream(data));
+            if (image == null) {
+                throw new GlobalException(ErrorCode.INVALID_IMAGE_FILE);
+            }
+            return image;
+        } catch (IOException e) {
+            throw new GlobalException(ErrorCode.INVALID_IMAGE_FILE);
+        }
+    }
+
+    // 비율을 유지하며 maxWidth 이하로 축소 (확대는 하지 않음)
+    private BufferedImage resize(BufferedImage source, int maxWidth) {
+        if (maxWidth <= 0 || source.getWidth() <= maxWidth) {
+            return source;
+        }
+
+        int height = Math.max(1, Math.round(source.getHeight() * (maxWidth / (float) source.getWidth())));
+        BufferedImage resized = new BufferedImage(maxWidth, height, BufferedImage.TYPE_INT_RGB);
+
+        Graphics2D graphics = resized.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(source, 0, 0, maxWidth, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return resized;
+    }
+
+    private byte[] encodeJpeg(BufferedImage image, float quality) {
+        // JPEG는 알파 채널을 지원하지 않으므로 RGB로 변환
+        BufferedImage rgb = image;
+        if (image.getType() != BufferedImage.TYPE_INT_RGB) {
+            rgb = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_RGB);
+            Graphics2D graphics = rgb.createGraphics();
+            try {
+                graphics.setColor(Color.WHITE);
+                graphics.fillRect(0, 0, image.getWidth(), image.getHeight());
+                graphics.drawImage(image, 0, 0, null);
+            } finally {
+                graphics.dispose();
+            }
+        }
+
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        try (ImageOutputStream imageOut = ImageIO.createImageOutputStream(out)) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(quality);
+
+            writer.setOutput(imageOut);
+            writer.write(null, new IIOImage(rgb, null, null), param);
+        } catch (IOException e) {
+            throw new GlobalException(ErrorCode.IMAGE_STORAGE_FAILED);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+
+    private String sha256(byte[] data) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(data));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
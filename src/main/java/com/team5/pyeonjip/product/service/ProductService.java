@@ -2,6 +2,10 @@ package com.team5.pyeonjip.product.service;
 
 import com.team5.pyeonjip.category.entity.Category;
 import com.team5.pyeonjip.category.repository.CategoryRepository;
+import com.team5.pyeonjip.category.utils.CategoryStatistics;
+import com.team5.pyeonjip.comment.entity.ProductRatingSummary;
+import com.team5.pyeonjip.comment.service.ProductRatingSummaryService;
+import com.team5.pyeonjip.global.cache.CatalogVersionRegistry;
 import com.team5.pyeonjip.global.exception.ErrorCode;
 import com.team5.pyeonjip.global.exception.GlobalException;
 import com.team5.pyeonjip.global.exception.ResourceNotFoundException;
@@ -10,6 +14,7 @@ import com.team5.pyeonjip.product.dto.ProductResponse;
 import com.team5.pyeonjip.product.entity.Product;
 import com.team5.pyeonjip.product.entity.ProductDetail;
 import com.team5.pyeonjip.product.entity.ProductImage;
+import com.team5.pyeonjip.product.enums.ImageVariant;
 import com.team5.pyeonjip.product.mapper.ProductMapper;
 import com.team5.pyeonjip.product.repository.ProductDetailRepository;
 import com.team5.pyeonjip.product.repository.ProductImageRepository;
@@ -21,6 +26,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -33,6 +39,9 @@ public class ProductService {
     private final ProductDetailService productDetailService;
     private final ProductImageService productImageService;
     private final CategoryRepository categoryRepository;
+    private final CatalogVersionRegistry catalogVersionRegistry;
+    private final ProductRatingSummaryService productRatingSummaryService;
+    private final CategoryStatistics categoryStatistics;
 
     @Transactional
     public ProductResponse createProduct(ProductRequest productRequest) {
@@ -54,6 +63,8 @@ public class ProductService {
 
         // ProductImage 생성 및 저장
         productImageService.createProductImages(savedProduct, productRequest.getProductImages());
+        catalogVersionRegistry.productChanged(savedProduct.getId());
+        categoryStatistics.productSaved(savedProduct);
 
         return productMapper.toDto(savedProduct, savedProduct.getProductDetails(), savedProduct.getProductImages());
     }
@@ -70,7 +81,7 @@ public class ProductService {
         List<ProductImage> productImages = productImageRepository.findByProductId(productId);
 
         // ProductResponse로 변환하여 반환
-        return productMapper.toDto(product, productDetails, productImages);
+        return applyRatings(List.of(productMapper.toDto(product, productDetails, productImages))).getFirst();
     }
 
     @Transactional
@@ -80,9 +91,10 @@ public class ProductService {
                 .orElseThrow(() -> new GlobalException(ErrorCode.PRODUCT_NOT_FOUND));
         product.setName(productRequest.getName());
         product.setDescription(productRequest.getDescription());
+        catalogVersionRegistry.productChanged(id);
 
 
-        return productMapper.toDto(product, product.getProductDetails(), product.getProductImages());
+        return applyRatings(List.of(productMapper.toDto(product, product.getProductDetails(), product.getProductImages()))).getFirst();
     }
 
     @Transactional
@@ -95,6 +107,8 @@ public class ProductService {
 
         // Product 삭제
         productRepository.delete(product);
+        catalogVersionRegistry.productChanged(id);
+        categoryStatistics.productRemoved(id);
     }
 
     // CategoryId로 제품 리스트 조회
@@ -108,12 +122,25 @@ public class ProductService {
                     List<ProductImage> productImages = productImageRepository.findByProductId(product.getId());
 
                     // toDto 메서드에 Product와 함께 연관 엔티티들을 전달
-                    return productMapper.toDto(product, productDetails, productImages);
+                    return productMapper.toDto(product, productDetails, productImages, ImageVariant.THUMBNAIL);
                 })
-                .collect(Collectors.toList());
+                .collect(Collectors.collectingAndThen(Collectors.toList(), this::applyRatings));
     }
 
 
+    // 카테고리와 모든 하위 카테고리의 제품 리스트 조회
+    public List<ProductResponse> getProductsUnderCategory(Long categoryId) {
+        List<Product> products = productRepository.findAllUnderCategory(categoryId);
+
+        return products.stream()
+                .map(product -> {
+                    List<ProductDetail> productDetails = productDetailRepository.findByProductId(product.getId());
+                    List<ProductImage> productImages = productImageRepository.findByProductId(product.getId());
+                    return productMapper.toDto(product, productDetails, productImages, ImageVariant.THUMBNAIL);
+                })
+                .collect(Collectors.collectingAndThen(Collectors.toList(), this::applyRatings));
+    }
+
     public List<ProductResponse> getAllProducts() {
         List<Product> products = productRepository.findAll();
 
@@ -121,9 +148,9 @@ public class ProductService {
                 .map(product -> {
                     List<ProductDetail> productDetails = productDetailRepository.findByProductId(product.getId());
                     List<ProductImage> productImages = productImageRepository.findByProductId(product.getId());
-                    return productMapper.toDto(product, productDetails, productImages);
+                    return productMapper.toDto(product, productDetails, productImages, ImageVariant.THUMBNAIL);
                 })
-                .collect(Collectors.toList());
+                .collect(Collectors.collectingAndThen(Collectors.toList(), this::applyRatings));
 
     }
 
@@ -138,11 +165,13 @@ public class ProductService {
     public Page<ProductResponse> getAllProductspage(Pageable pageable) {
         Page<Product> productsPage = productRepository.findAll(pageable);
 
-        return productsPage.map(product -> {
+        Page<ProductResponse> responsePage = productsPage.map(product -> {
             List<ProductDetail> productDetails = productDetailRepository.findByProductId(product.getId());
             List<ProductImage> productImages = productImageRepository.findByProductId(product.getId());
-            return productMapper.toDto(product, productDetails, productImages);
+            return productMapper.toDto(product, productDetails, productImages, ImageVariant.THUMBNAIL);
         });
+        applyRatings(responsePage.getContent());
+        return responsePage;
     }
     @Transactional(readOnly = true)
     public List<ProductImage> getProductImagesByProductId(Long productId) {
@@ -150,5 +179,20 @@ public class ProductService {
         return productImageRepository.findByProductId(productId);
     }
 
+    // 평점 집계를 한 번에 조회하여 응답에 채움
+    private List<ProductResponse> applyRatings(List<ProductResponse> responses) {
+        Map<Long, ProductRatingSummary> summaries = productRatingSummaryService.getSummaries(
+                responses.stream().map(ProductResponse::getId).toList());
+
+        responses.forEach(response -> {
+            ProductRatingSummary summary = summaries.get(response.getId());
+            if (summary != null) {
+                response.setRatingCount(summary.getRatingCount());
+                response.setAverageRating(summary.getAverage());
+            }
+        });
+        return responses;
+    }
+
 
 }
\ No newline at end of file
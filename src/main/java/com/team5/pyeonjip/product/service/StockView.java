@@ -0,0 +1,94 @@
+package com.team5.pyeonjip.product.service;
+
+import com.team5.pyeonjip.global.util.TransactionUtils;
+import com.team5.pyeonjip.product.dto.ProductOptionView;
+import com.team5.pyeonjip.product.repository.ProductDetailRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 옵션별 재고/가격 조회 캐시 (장바구니 화면, 장바구니 담기/수량 변경, 장바구니 검증에서 공유).
+ * - 상품 목록/상세 조회는 이 캐시를 쓰지 않는다. 옵션 이름/이미지까지 옵션 행 전체를 읽어야 하므로 재고만 캐시해도 쿼리가 줄지 않고,
+ *   응답은 상품 버전(ETag)으로 따로 캐시된다. 옵션 변경 시 ProductDetailService에서 두 캐시를 함께 비운다.
+ * - 캐시에 없거나 TTL이 지난 옵션만 모아 IN 쿼리로 한 번에 조회한다.
+ * - 재고/가격 변경은 커밋 이후 해당 옵션을 비우므로 TTL은 다른 인스턴스의 변경에 대한 최대 지연이다.
+ * - 실제 재고 차감은 주문 시 락을 잡고 DB 값으로 다시 확인한다.
+ */
+@Component
+public class StockView {
+
+    // IN 절 파라미터 수 제한
+    private static final int CHUNK_SIZE = 500;
+
+    private final ProductDetailRepository productDetailRepository;
+    private final long ttlNanos;
+    private final int maxEntries;
+
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+
+    public StockView(ProductDetailRepository productDetailRepository,
+                     @Value("${app.stock-view.ttl-ms:2000}") long ttlMs,
+                     @Value("${app.stock-view.max-entries:10000}") int maxEntries) {
+        this.productDetailRepository = productDetailRepository;
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMs);
+        this.maxEntries = maxEntries;
+    }
+
+    // 오름차순 정렬된 옵션 id와 같은 위치에 조회 결과를 담아 반환 (없는 옵션은 null)
+    public ProductOptionView[] lookup(long[] sortedOptionIds) {
+        ProductOptionView[] views = new ProductOptionView[sortedOptionIds.length];
+        long now = System.nanoTime();
+
+        List<Long> misses = new ArrayList<>();
+        for (int i = 0; i < sortedOptionIds.length; i++) {
+            Entry entry = entries.get(sortedOptionIds[i]);
+            if (entry != null && now - entry.loadedAt() < ttlNanos) {
+                views[i] = entry.view();
+            } else {
+                misses.add(sortedOptionIds[i]);
+            }
+        }
+
+        if (misses.isEmpty()) {
+            return views;
+        }
+
+        // 너무 커지면 비우고 다시 채운다. (조회 대상은 대부분 최근 장바구니 옵션)
+        if (entries.size() + misses.size() > maxEntries) {
+            entries.clear();
+        }
+
+        for (int from = 0; from < misses.size(); from += CHUNK_SIZE) {
+            List<Long> chunk = misses.subList(from, Math.min(from + CHUNK_SIZE, misses.size()));
+
+            for (ProductOptionView view : productDetailRepository.findOptionViews(chunk)) {
+                views[Arrays.binarySearch(sortedOptionIds, view.getOptionId())] = view;
+                entries.put(view.getOptionId(), new Entry(view, now));
+            }
+        }
+        return views;
+    }
+
+    // 단일 옵션 조회 (없으면 null)
+    public ProductOptionView get(Long optionId) {
+        return optionId == null ? null : lookup(new long[]{optionId})[0];
+    }
+
+    // 재고/가격 변경 시 호출 (커밋 이후 적용)
+    public void evict(Long optionId) {
+        if (optionId == null) {
+            return;
+        }
+        TransactionUtils.afterCommit(() -> entries.remove(optionId));
+    }
+
+    private record Entry(ProductOptionView view, long loadedAt) {
+    }
+}
@@ -0,0 +1,21 @@
+package com.team5.pyeonjip.product.storage;
+
+import com.team5.pyeonjip.product.enums.ImageVariant;
+
+import java.nio.file.Path;
+import java.util.Optional;
+
+/**
+ * 콘텐츠 해시(SHA-256) 기반 이미지 저장소.
+ * - 같은 원본은 같은 해시를 가지므로 중복 저장되지 않고, 저장된 파일은 변경되지 않는다.
+ * - 로컬 파일 시스템 구현을 기본으로 사용하며, S3 등 다른 저장소는 이 인터페이스를 구현해 교체한다.
+ */
+public interface ImageStore {
+
+    boolean exists(String hash, ImageVariant variant);
+
+    void save(String hash, ImageVariant variant, byte[] data);
+
+    // 로컬에서 바로 전송할 수 있는 파일 경로 (없으면 empty)
+    Optional<Path> find(String hash, ImageVariant variant);
+}
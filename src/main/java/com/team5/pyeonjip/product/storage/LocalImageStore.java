@@ -0,0 +1,74 @@
+package com.team5.pyeonjip.product.storage;
+
+import com.team5.pyeonjip.global.exception.ErrorCode;
+import com.team5.pyeonjip.global.exception.GlobalException;
+import com.team5.pyeonjip.product.enums.ImageVariant;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+// {root}/{해시 앞 2자리}/{해시}/{variant}.jpg 구조로 저장
+@Component
+public class LocalImageStore implements ImageStore {
+
+    private static final Pattern HASH_PATTERN = Pattern.compile("[0-9a-f]{64}");
+
+    private final Path root;
+
+    public LocalImageStore(@Value("${app.image.storage-path:./images}") String storagePath) {
+        this.root = Paths.get(storagePath).toAbsolutePath().normalize();
+    }
+
+    @Override
+    public boolean exists(String hash, ImageVariant variant) {
+        return Files.isRegularFile(resolve(hash, variant));
+    }
+
+    @Override
+    public void save(String hash, ImageVariant variant, byte[] data) {
+        Path target = resolve(hash, variant);
+
+        if (Files.isRegularFile(target)) {
+            return;
+        }
+
+        try {
+            Files.createDirectories(target.getParent());
+
+            // 임시 파일에 쓴 뒤 이동하여, 읽는 쪽에서 쓰다 만 파일을 보지 않도록 한다.
+            Path temp = Files.createTempFile(target.getParent(), variant.pathName(), ".tmp");
+            Files.write(temp, data);
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            throw new GlobalException(ErrorCode.IMAGE_STORAGE_FAILED);
+        }
+    }
+
+    @Override
+    public Optional<Path> find(String hash, ImageVariant variant) {
+        if (!HASH_PATTERN.matcher(hash).matches()) {
+            return Optional.empty();
+        }
+
+        Path path = resolve(hash, variant);
+        return Files.isRegularFile(path) ? Optional.of(path) : Optional.empty();
+    }
+
+    private Path resolve(String hash, ImageVariant variant) {
+        // 경로 조작 방지
+        if (!HASH_PATTERN.matcher(hash).matches()) {
+            throw new GlobalException(ErrorCode.PRODUCT_IMAGE_NOT_FOUND);
+        }
+
+        return root.resolve(hash.substring(0, 2))
+                .resolve(hash)
+                .resolve(variant.pathName() + ".jpg");
+    }
+}
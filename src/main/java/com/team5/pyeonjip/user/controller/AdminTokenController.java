@@ -0,0 +1,30 @@
+package com.team5.pyeonjip.user.controller;
+
+
+import com.team5.pyeonjip.global.jwt.TokenRevocationService;
+import com.team5.pyeonjip.user.dto.TokenRevokeRequest;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+
+@RequestMapping("/api/admin/tokens")
+@RequiredArgsConstructor
+@RestController
+public class AdminTokenController {
+
+    private final TokenRevocationService tokenRevocationService;
+
+
+    // 유출된 토큰 폐기 (Access: 만료 전까지 거절, Refresh: 재발급 불가)
+    @PostMapping("/revoke")
+    public ResponseEntity<Void> revoke(@Valid @RequestBody TokenRevokeRequest request) {
+
+        tokenRevocationService.revoke(request.getToken());
+        return ResponseEntity.noContent().build();
+    }
+}
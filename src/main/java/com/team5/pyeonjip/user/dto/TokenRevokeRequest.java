@@ -0,0 +1,13 @@
+package com.team5.pyeonjip.user.dto;
+
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.Data;
+
+@Data
+public class TokenRevokeRequest {
+
+    // 폐기할 Access 또는 Refresh 토큰
+    @NotBlank
+    private String token;
+}
@@ -2,6 +2,10 @@ package com.team5.pyeonjip.user.repository;
 
 import com.team5.pyeonjip.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
@@ -24,4 +28,13 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     // 비밀번호 재설정 시, 이름과 이메일에 해당되는 유저가 있는지 확인
     Boolean existsByNameAndEmail(String name, String email);
+
+
+    // 로그인 시 비밀번호 다시 해시 (그 사이 비밀번호가 바뀌었으면 반영하지 않음)
+    @Transactional
+    @Modifying
+    @Query("UPDATE User u SET u.password = :newPassword WHERE u.email = :email AND u.password = :oldPassword")
+    int updatePasswordIfUnchanged(@Param("email") String email,
+                                  @Param("oldPassword") String oldPassword,
+                                  @Param("newPassword") String newPassword);
 }
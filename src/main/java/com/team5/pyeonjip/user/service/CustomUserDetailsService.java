@@ -2,31 +2,73 @@ package com.team5.pyeonjip.user.service;
 
 import com.team5.pyeonjip.global.exception.ErrorCode;
 import com.team5.pyeonjip.global.exception.GlobalException;
+import com.team5.pyeonjip.global.util.TransactionUtils;
 import com.team5.pyeonjip.user.dto.CustomUserDetails;
 import com.team5.pyeonjip.user.entity.User;
 import com.team5.pyeonjip.user.repository.UserRepository;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
-@RequiredArgsConstructor
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로그인용 사용자 조회.
+ * - 짧은 TTL 동안 결과를 캐시해 연속 로그인 시도마다 users 테이블을 읽지 않는다. (없는 이메일은 캐시하지 않음)
+ * - 비밀번호 변경/탈퇴 시 커밋 이후 캐시를 비우므로 TTL은 다른 인스턴스의 변경에 대한 최대 지연이다.
+ */
 @Service
 public class CustomUserDetailsService implements UserDetailsService {
 
     private final UserRepository userRepository;
+    private final long ttlNanos;
+    private final int maxEntries;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    public CustomUserDetailsService(UserRepository userRepository,
+                                    @Value("${app.auth.user-cache.ttl-ms:30000}") long ttlMs,
+                                    @Value("${app.auth.user-cache.max-entries:10000}") int maxEntries) {
+        this.userRepository = userRepository;
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMs);
+        this.maxEntries = maxEntries;
+    }
 
 
     // email을 매개변수로 가지도록 재정의
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
-        System.out.println("📌 [DEBUG] 찾는 이메일: " + email);
+        long now = System.nanoTime();
+
+        Entry entry = entries.get(email);
+        if (entry != null && now - entry.loadedAt() < ttlNanos) {
+            return entry.userDetails();
+        }
+
         User userData = userRepository.findByEmail(email)
                 .orElseThrow(() -> new GlobalException(ErrorCode.USER_NOT_FOUND));
 
-        System.out.println("📌 [DEBUG] 찾은 사용자: " + userData.getEmail());
+        CustomUserDetails userDetails = new CustomUserDetails(userData);
+        if (ttlNanos > 0) {
+            if (entries.size() >= maxEntries) {
+                entries.clear();
+            }
+            entries.put(email, new Entry(userDetails, now));
+        }
+        return userDetails;
+    }
+
+
+    // 비밀번호 변경, 탈퇴 시 호출 (커밋 이후 적용)
+    public void evict(String email) {
+        TransactionUtils.afterCommit(() -> entries.remove(email));
+    }
+
 
-        return new CustomUserDetails(userData);
+    private record Entry(CustomUserDetails userDetails, long loadedAt) {
     }
 }
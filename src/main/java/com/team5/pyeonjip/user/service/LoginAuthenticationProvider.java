@@ -0,0 +1,47 @@
+package com.team5.pyeonjip.user.service;
+
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+/**
+ * 이메일/비밀번호 로그인 인증.
+ * - 사용자는 CustomUserDetailsService에서 한 번만 조회하고 (없으면 USER_NOT_FOUND),
+ *   비밀번호 비교는 PasswordHashService의 전용 풀에서 실행한다.
+ * - 성공하면 현재 설정과 다른 해시를 백그라운드에서 다시 해시한다.
+ */
+@Component
+public class LoginAuthenticationProvider implements AuthenticationProvider {
+
+    private final CustomUserDetailsService userDetailsService;
+    private final PasswordHashService passwordHashService;
+
+    public LoginAuthenticationProvider(CustomUserDetailsService userDetailsService,
+                                       PasswordHashService passwordHashService) {
+        this.userDetailsService = userDetailsService;
+        this.passwordHashService = passwordHashService;
+    }
+
+    @Override
+    public Authentication authenticate(Authentication authentication) throws AuthenticationException {
+        String email = authentication.getName();
+        String password = String.valueOf(authentication.getCredentials());
+
+        UserDetails userDetails = userDetailsService.loadUserByUsername(email);
+        if (!passwordHashService.matches(password, userDetails.getPassword())) {
+            throw new BadCredentialsException("비밀번호가 일치하지 않습니다.");
+        }
+        passwordHashService.upgradeIfNeeded(email, password, userDetails.getPassword());
+
+        return UsernamePasswordAuthenticationToken.authenticated(userDetails, null, userDetails.getAuthorities());
+    }
+
+    @Override
+    public boolean supports(Class<?> authentication) {
+        return UsernamePasswordAuthenticationToken.class.isAssignableFrom(authentication);
+    }
+}
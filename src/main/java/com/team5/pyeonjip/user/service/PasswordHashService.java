@@ -0,0 +1,122 @@
+package com.team5.pyeonjip.user.service;
+
+import com.team5.pyeonjip.global.exception.ErrorCode;
+import com.team5.pyeonjip.global.exception.GlobalException;
+import com.team5.pyeonjip.user.repository.UserRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 로그인 비밀번호 검증.
+ * - BCrypt 비교는 CPU를 오래 쓰므로 크기가 제한된 전용 풀에서 실행해, 동시에 해시를 계산하는 스레드 수를 코어 수 이하로 묶는다.
+ * - 대기 큐가 가득 차거나 제한 시간 안에 끝나지 않으면 바로 429(TOO_MANY_REQUESTS)로 거절한다.
+ *   로그인 폭주가 있어도 요청 스레드는 큐에서 오래 기다리지 않고 빠지므로, 상품 조회 등 다른 요청을 처리할 스레드가 남는다.
+ * - 로그인에 성공한 비밀번호의 해시가 현재 설정(알고리즘, cost)과 다르면 별도의 작은 풀에서 다시 해시해 저장한다. (응답은 기다리지 않음)
+ *   재해시가 로그인 검증 풀을 차지해 429를 늘리지 않도록 분리하며, 재해시 풀이 가득 차면 다음 로그인으로 미룬다.
+ */
+@Slf4j
+@Service
+public class PasswordHashService {
+
+    private final PasswordEncoder passwordEncoder;
+    private final UserRepository userRepository;
+    private final CustomUserDetailsService userDetailsService;
+    private final ThreadPoolExecutor executor;
+    private final ThreadPoolExecutor rehashExecutor;
+    private final long timeoutMs;
+
+    public PasswordHashService(PasswordEncoder passwordEncoder,
+                               UserRepository userRepository,
+                               CustomUserDetailsService userDetailsService,
+                               @Value("${app.auth.password-hash.threads:0}") int threads,
+                               @Value("${app.auth.password-hash.queue-capacity:64}") int queueCapacity,
+                               @Value("${app.auth.password-hash.timeout-ms:3000}") long timeoutMs,
+                               @Value("${app.auth.password-hash.rehash-threads:1}") int rehashThreads,
+                               @Value("${app.auth.password-hash.rehash-queue-capacity:100}") int rehashQueueCapacity) {
+        this.passwordEncoder = passwordEncoder;
+        this.userRepository = userRepository;
+        this.userDetailsService = userDetailsService;
+        this.timeoutMs = timeoutMs;
+
+        // 0이면 코어 수
+        int workerThreads = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        this.executor = boundedPool("password-hash-", workerThreads, queueCapacity);
+        this.rehashExecutor = boundedPool("password-rehash-", rehashThreads, rehashQueueCapacity);
+    }
+
+    // 풀이 가득 차면 GlobalException(TOO_MANY_REQUESTS)
+    public boolean matches(String rawPassword, String encodedPassword) {
+        Future<Boolean> future;
+        try {
+            future = executor.submit(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+        } catch (RejectedExecutionException e) {
+            throw new GlobalException(ErrorCode.TOO_MANY_REQUESTS);
+        }
+
+        try {
+            return future.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new GlobalException(ErrorCode.TOO_MANY_REQUESTS);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new GlobalException(ErrorCode.LOGIN_PROCESSING_ERROR);
+        } catch (ExecutionException e) {
+            throw new GlobalException(ErrorCode.LOGIN_PROCESSING_ERROR);
+        }
+    }
+
+    // 검증에 성공한 비밀번호로 호출. 다시 해시할 필요가 없거나 풀이 가득 차면 건너뛴다. (다음 로그인에 다시 시도)
+    public void upgradeIfNeeded(String email, String rawPassword, String encodedPassword) {
+        if (!passwordEncoder.upgradeEncoding(encodedPassword)) {
+            return;
+        }
+
+        try {
+            rehashExecutor.execute(() -> {
+                try {
+                    String upgraded = passwordEncoder.encode(rawPassword);
+                    if (userRepository.updatePasswordIfUnchanged(email, encodedPassword, upgraded) > 0) {
+                        userDetailsService.evict(email);
+                    }
+                } catch (Exception e) {
+                    log.warn("[비밀번호 재해시 실패]: {}", email, e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.debug("[비밀번호 재해시 보류]: {}", email);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+        rehashExecutor.shutdown();
+    }
+
+    // 가득 차면 RejectedExecutionException
+    private static ThreadPoolExecutor boundedPool(String namePrefix, int threads, int queueCapacity) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        return new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, namePrefix + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+}
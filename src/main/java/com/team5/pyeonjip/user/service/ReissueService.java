@@ -3,8 +3,8 @@ package com.team5.pyeonjip.user.service;
 import com.team5.pyeonjip.global.exception.ErrorCode;
 import com.team5.pyeonjip.global.exception.GlobalException;
 import com.team5.pyeonjip.global.jwt.JWTUtil;
-import com.team5.pyeonjip.user.entity.Refresh;
-import com.team5.pyeonjip.user.repository.RefreshRepository;
+import com.team5.pyeonjip.global.jwt.TokenClaims;
+import com.team5.pyeonjip.user.storage.RefreshTokenStore;
 import io.jsonwebtoken.ExpiredJwtException;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
@@ -12,15 +12,15 @@ import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.util.Arrays;
-import java.util.Date;
 
 @RequiredArgsConstructor
 @Service
 public class ReissueService {
 
     private final JWTUtil jwtUtil;
-    private final RefreshRepository refreshRepository;
+    private final RefreshTokenStore refreshTokenStore;
 
 
     // Access 토큰 재발급을 위한 컨트롤러
@@ -45,41 +45,35 @@ public class ReissueService {
         }
 
         // Refresh 토큰이 만료되었는지 확인
+        TokenClaims claims;
         try {
-            jwtUtil.isExpired(refreshToken);
+            claims = jwtUtil.parse(refreshToken);
         } catch (ExpiredJwtException e) {
 
             throw new GlobalException(ErrorCode.REFRESH_TOKEN_EXPIRED);
         }
 
         // Refresh 토큰인지 확인 (발급시 페이로드에 명시된다)
-        String category = jwtUtil.getCategory(refreshToken);
-
-        if (!category.equals("refresh")) {
+        if (!claims.isRefresh()) {
 
             throw new GlobalException(ErrorCode.INVALID_REFRESH_TOKEN);
         }
 
-        // Refresh 토큰이 DB에 저장되어 있는지 확인
-        boolean isExist = refreshRepository.existsByRefresh(refreshToken);
-
-        if (!isExist) {
-
-            throw new GlobalException(ErrorCode.REFRESH_TOKEN_NOT_SAVED);
-        }
-
-        /* 여기까지 Refresh 토큰 검증 로직 */
+        /* 여기까지 Refresh 토큰 검증 로직 (저장 여부는 교체하면서 확인) */
 
-        String email = jwtUtil.getEmail(refreshToken);
-        String role = jwtUtil.getRole(refreshToken);
+        String email = claims.email();
+        String role = claims.role();
 
         // Access, Refresh JWT를 새로 생성.
         String newAccessToken = jwtUtil.createJwt("access", email, role, 600000L);
         String newRefreshToken = jwtUtil.createJwt("refresh", email, role, 86400000L);
 
-        // Refresh 토큰을 생성한 후, DB에 저장된 기존의 토큰은 삭제하고 새로운 토큰을 저장한다.
-        refreshRepository.deleteByRefresh(refreshToken);
-        addRefresh(email, newRefreshToken, 86400000L);
+        // 저장된 기존 토큰을 삭제하고 새로운 토큰을 저장한다. (원자적)
+        // 저장되어 있지 않거나 동시 요청에서 이미 교체된 토큰이면 실패한다.
+        if (!refreshTokenStore.rotate(refreshToken, newRefreshToken, email, Duration.ofMillis(86400000L))) {
+
+            throw new GlobalException(ErrorCode.REFRESH_TOKEN_NOT_SAVED);
+        }
 
         // 삭제 대상 토큰이 쿠키에 포함되는 문제가 있어, 명시적으로 삭제하는 코드를 추가
         Cookie deleteOldRefreshToken = new Cookie("refresh", null);
@@ -109,18 +103,4 @@ public class ReissueService {
 
         return cookie;
     }
-
-
-    private void addRefresh(String email, String refresh, Long expiredMs) {
-
-        // 만료일 설정
-        Date date = new Date(System.currentTimeMillis() + expiredMs);
-
-        Refresh newRefresh = new Refresh();
-        newRefresh.setEmail(email);
-        newRefresh.setRefresh(refresh);
-        newRefresh.setExpiration(date.toString());
-
-        refreshRepository.save(newRefresh);
-    }
 }
@@ -8,7 +8,7 @@ import com.team5.pyeonjip.user.entity.User;
 import com.team5.pyeonjip.user.repository.UserRepository;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -18,7 +18,8 @@ import java.util.List;
 public class UserService {
 
     private final UserRepository userRepository;
-    private final BCryptPasswordEncoder bCryptPasswordEncoder;
+    private final PasswordEncoder passwordEncoder;
+    private final CustomUserDetailsService customUserDetailsService;
 
 
     public boolean signUpProcess(SignUpDto dto) {
@@ -35,7 +36,7 @@ public class UserService {
 //      2. 중복 이메일이 없으면 회원가입 절차 실행
         try {
 //          2 - 1. 비밀번호 인코딩
-            String encodedPassword = bCryptPasswordEncoder.encode(dto.getPassword());
+            String encodedPassword = passwordEncoder.encode(dto.getPassword());
 
 //          2 - 2. dto 엔티티화
             User user = UserMapper.INSTANCE.toEntity(dto);
@@ -99,9 +100,10 @@ public class UserService {
         User foundUser = userRepository.findByEmail(email)
                 .orElseThrow(() -> new GlobalException(ErrorCode.USER_NOT_FOUND));
 
-        String newPassword = bCryptPasswordEncoder.encode(dto.getPassword());
+        String newPassword = passwordEncoder.encode(dto.getPassword());
 
         foundUser.setPassword(newPassword);
+        customUserDetailsService.evict(email);
 
         return true;
     }
@@ -115,6 +117,7 @@ public class UserService {
 
         try {
             userRepository.delete(foundUser);
+            customUserDetailsService.evict(email);
         } catch (Exception e) {
             throw new GlobalException(ErrorCode.USER_DELETE_FAILED);
         }
@@ -0,0 +1,55 @@
+package com.team5.pyeonjip.user.storage;
+
+import com.team5.pyeonjip.global.util.HashUtils;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 메모리 Refresh 토큰 저장소 (app.refresh-token.store=memory).
+ * - 인스턴스끼리 공유되지 않고 재시작하면 사라지므로 단일 서버에서만 사용한다.
+ * - 만료된 항목은 조회 시 없는 것으로 보고, 주기적으로 지운다.
+ */
+@Component
+@ConditionalOnProperty(name = "app.refresh-token.store", havingValue = "memory")
+public class InMemoryRefreshTokenStore implements RefreshTokenStore {
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    @Override
+    public void save(String token, String email, Duration ttl) {
+        entries.put(HashUtils.sha256(token), new Entry(email, System.currentTimeMillis() + ttl.toMillis()));
+    }
+
+    @Override
+    public boolean remove(String token) {
+        Entry entry = entries.remove(HashUtils.sha256(token));
+        return entry != null && !entry.isExpired(System.currentTimeMillis());
+    }
+
+    @Override
+    public boolean rotate(String oldToken, String newToken, String email, Duration ttl) {
+        // remove는 원자적이므로 같은 토큰으로 동시에 호출해도 하나만 성공한다.
+        if (!remove(oldToken)) {
+            return false;
+        }
+        save(newToken, email, ttl);
+        return true;
+    }
+
+    @Scheduled(fixedDelayString = "${app.refresh-token.memory.purge-interval-ms:600000}")
+    public void purgeExpired() {
+        long now = System.currentTimeMillis();
+        entries.values().removeIf(entry -> entry.isExpired(now));
+    }
+
+    private record Entry(String email, long expiresAt) {
+        private boolean isExpired(long now) {
+            return expiresAt <= now;
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.team5.pyeonjip.user.storage;
+
+import com.team5.pyeonjip.global.util.HashUtils;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Redis Refresh 토큰 저장소 (app.refresh-token.store=redis).
+ * - refresh:{토큰 해시} -> 이메일, TTL은 토큰 만료 시간과 같다.
+ */
+@Component
+@ConditionalOnProperty(name = "app.refresh-token.store", havingValue = "redis", matchIfMissing = true)
+public class RedisRefreshTokenStore implements RefreshTokenStore {
+
+    private static final String KEY = "refresh:";
+
+    // 기존 토큰을 지운 경우에만 새 토큰 저장
+    private static final String ROTATE_SCRIPT =
+            "if redis.call('del', KEYS[1]) == 1 then " +
+            "redis.call('set', KEYS[2], ARGV[1], 'PX', ARGV[2]) return 1 end " +
+            "return 0";
+
+    private final RedissonClient redissonClient;
+
+    public RedisRefreshTokenStore(RedissonClient redissonClient) {
+        this.redissonClient = redissonClient;
+    }
+
+    @Override
+    public void save(String token, String email, Duration ttl) {
+        redissonClient.<String>getBucket(key(token), StringCodec.INSTANCE).set(email, ttl);
+    }
+
+    @Override
+    public boolean remove(String token) {
+        return redissonClient.getBucket(key(token), StringCodec.INSTANCE).delete();
+    }
+
+    @Override
+    public boolean rotate(String oldToken, String newToken, String email, Duration ttl) {
+        Long rotated = redissonClient.getScript(StringCodec.INSTANCE).eval(RScript.Mode.READ_WRITE, ROTATE_SCRIPT,
+                RScript.ReturnType.INTEGER, List.<Object>of(key(oldToken), key(newToken)), email, String.valueOf(ttl.toMillis()));
+        return rotated != null && rotated == 1L;
+    }
+
+    private static String key(String token) {
+        return KEY + HashUtils.sha256(token);
+    }
+}
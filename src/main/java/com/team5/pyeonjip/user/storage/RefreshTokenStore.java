@@ -0,0 +1,19 @@
+package com.team5.pyeonjip.user.storage;
+
+import java.time.Duration;
+
+/**
+ * 발급된 Refresh 토큰 저장소.
+ * - 토큰 원문 대신 SHA-256 해시를 키로 저장하고, 토큰 만료 시각이 지나면 저장소에서도 사라진다.
+ * - app.refresh-token.store=redis(기본)면 Redis, memory면 인스턴스 메모리(단일 서버 전용)를 사용한다.
+ */
+public interface RefreshTokenStore {
+
+    void save(String token, String email, Duration ttl);
+
+    // 저장되어 있던 토큰을 지웠으면 true
+    boolean remove(String token);
+
+    // 기존 토큰이 저장되어 있을 때만 지우고 새 토큰을 저장 (원자적). 동시에 같은 토큰으로 재발급하면 하나만 성공한다.
+    boolean rotate(String oldToken, String newToken, String email, Duration ttl);
+}
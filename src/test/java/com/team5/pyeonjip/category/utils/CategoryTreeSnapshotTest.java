@@ -0,0 +1,78 @@
+package com.team5.pyeonjip.category.utils;
+
+import com.team5.pyeonjip.category.dto.CategoryNode;
+import com.team5.pyeonjip.category.dto.CategoryResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CategoryTreeSnapshotTest {
+
+    /*
+     * 1 가구 (sort 2)
+     * ├─ 3 침대 (sort 2)
+     * │   └─ 5 싱글 (sort 1)
+     * └─ 4 소파 (sort 1)
+     * 2 조명 (sort 1)
+     * 6 (부모 99 없음)
+     */
+    private final CategoryTreeSnapshot snapshot = CategoryTreeSnapshot.build(1L, List.of(
+            new CategoryNode(1L, "가구", 2, null),
+            new CategoryNode(2L, "조명", 1, null),
+            new CategoryNode(3L, "침대", 2, 1L),
+            new CategoryNode(4L, "소파", 1, 1L),
+            new CategoryNode(5L, "싱글", 1, 3L),
+            new CategoryNode(6L, "고아", 1, 99L)
+    ));
+
+    @Test
+    @DisplayName("최상위 카테고리와 자식을 sort 순으로 구성")
+    void rootsAreSorted() {
+        List<CategoryResponse> roots = snapshot.getRootResponses();
+
+        assertEquals(List.of(2L, 1L), roots.stream().map(CategoryResponse::getId).toList());
+        assertEquals(List.of(4L, 3L), roots.get(1).getChildren().stream().map(CategoryResponse::getId).toList());
+        assertEquals(5L, roots.get(1).getChildren().get(1).getChildren().getFirst().getId());
+    }
+
+    @Test
+    @DisplayName("서브트리 Leaf id 조회")
+    void leafIds() {
+        assertEquals(List.of(4L, 5L), snapshot.getLeafIds(1L));
+        assertEquals(List.of(2L), snapshot.getLeafIds(2L));
+        assertEquals(List.of(), snapshot.getLeafIds(100L));
+    }
+
+    @Test
+    @DisplayName("서브트리 포함 여부")
+    void subtreeMembership() {
+        assertTrue(snapshot.isInSubtree(1L, 5L));
+        assertTrue(snapshot.isInSubtree(3L, 3L));
+        assertFalse(snapshot.isInSubtree(3L, 4L));
+        assertFalse(snapshot.isInSubtree(2L, 1L));
+        assertEquals(List.of(1L, 4L, 3L, 5L), snapshot.getSubtreeIds(1L));
+    }
+
+    @Test
+    @DisplayName("부모가 없어진 카테고리는 전체 트리에서 제외되지만 id로 조회 가능")
+    void orphanCategory() {
+        assertTrue(snapshot.getRootResponses().stream().noneMatch(root -> root.getId().equals(6L)));
+        assertEquals("고아", snapshot.getResponse(6L).getName());
+    }
+
+    @Test
+    @DisplayName("순환 참조가 있어도 스냅샷 생성")
+    void cycleIsSafe() {
+        CategoryTreeSnapshot cyclic = CategoryTreeSnapshot.build(1L, List.of(
+                new CategoryNode(1L, "A", 1, 2L),
+                new CategoryNode(2L, "B", 1, 1L)
+        ));
+
+        assertEquals(2, cyclic.size());
+        assertTrue(cyclic.getRootResponses().isEmpty());
+        assertTrue(cyclic.isInSubtree(1L, 2L));
+    }
+}
@@ -0,0 +1,144 @@
+package com.team5.pyeonjip.global.entity;
+
+import com.team5.pyeonjip.order.entity.Delivery;
+import com.team5.pyeonjip.order.entity.Order;
+import com.team5.pyeonjip.order.entity.OrderDetail;
+import com.team5.pyeonjip.order.enums.DeliveryStatus;
+import com.team5.pyeonjip.order.enums.OrderStatus;
+import com.team5.pyeonjip.order.repository.DeliveryRepository;
+import com.team5.pyeonjip.order.repository.OrderDetailRepository;
+import com.team5.pyeonjip.order.repository.OrderRepository;
+import com.team5.pyeonjip.product.entity.Product;
+import com.team5.pyeonjip.product.entity.ProductDetail;
+import com.team5.pyeonjip.product.repository.ProductDetailRepository;
+import com.team5.pyeonjip.product.repository.ProductRepository;
+import com.team5.pyeonjip.user.entity.Grade;
+import com.team5.pyeonjip.user.entity.Role;
+import com.team5.pyeonjip.user.entity.User;
+import com.team5.pyeonjip.user.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// pooled id 생성기 + JDBC 배치 insert 처리량 측정 (./gradlew benchmark)
+@Tag("benchmark")
+@DataJpaTest
+@ActiveProfiles("test")
+class BatchInsertBenchmarkTest {
+
+    private static final int ORDER_COUNT = 2_000;
+    private static final int DETAILS_PER_ORDER = 3;
+    private static final int CATALOG_DETAIL_COUNT = 10_000;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductDetailRepository productDetailRepository;
+
+    @Autowired
+    private DeliveryRepository deliveryRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderDetailRepository orderDetailRepository;
+
+    @Test
+    void orderInsertThroughput() {
+        User user = userRepository.save(createUser());
+        ProductDetail productDetail = createCatalog(DETAILS_PER_ORDER).getFirst();
+        entityManager.flush();
+        entityManager.clear();
+
+        long start = System.nanoTime();
+
+        for (int i = 0; i < ORDER_COUNT; i++) {
+            Delivery delivery = deliveryRepository.save(Delivery.builder()
+                    .address("서울시")
+                    .status(DeliveryStatus.READY)
+                    .build());
+
+            Order order = orderRepository.save(Order.builder()
+                    .recipient("수령인")
+                    .phoneNumber("01012345678")
+                    .status(OrderStatus.ORDER)
+                    .totalPrice(10_000L)
+                    .delivery(delivery)
+                    .user(entityManager.getReference(User.class, user.getId()))
+                    .build());
+
+            List<OrderDetail> orderDetails = new ArrayList<>();
+            for (int j = 0; j < DETAILS_PER_ORDER; j++) {
+                orderDetails.add(OrderDetail.builder()
+                        .order(order)
+                        .product(entityManager.getReference(ProductDetail.class, productDetail.getId()))
+                        .productName("상품")
+                        .productPrice(1_000L)
+                        .quantity(1L)
+                        .build());
+            }
+            orderDetailRepository.saveAll(orderDetails);
+        }
+        entityManager.flush();
+
+        long rows = (long) ORDER_COUNT * (2 + DETAILS_PER_ORDER);
+        report("orders (delivery + order + details)", rows, System.nanoTime() - start);
+
+        assertEquals(ORDER_COUNT, orderRepository.count());
+    }
+
+    @Test
+    void catalogImportThroughput() {
+        long start = System.nanoTime();
+
+        createCatalog(CATALOG_DETAIL_COUNT);
+        entityManager.flush();
+
+        report("catalog import (product details)", CATALOG_DETAIL_COUNT, System.nanoTime() - start);
+
+        assertEquals(CATALOG_DETAIL_COUNT, productDetailRepository.count());
+    }
+
+    private List<ProductDetail> createCatalog(int detailCount) {
+        Product product = productRepository.save(new Product(null, "상품", "설명", null, new ArrayList<>(), new ArrayList<>()));
+
+        List<ProductDetail> productDetails = new ArrayList<>();
+        for (int i = 0; i < detailCount; i++) {
+            productDetails.add(new ProductDetail(product, "옵션-" + i, 1_000L, 100L));
+        }
+        return productDetailRepository.saveAll(productDetails);
+    }
+
+    private User createUser() {
+        User user = new User();
+        user.setEmail("bench@test.com");
+        user.setName("bench");
+        user.setPhoneNumber("01012345678");
+        user.setPassword("password");
+        user.setAddress("서울시");
+        user.setRole(Role.ROLE_USER);
+        user.setGrade(Grade.BRONZE);
+        return user;
+    }
+
+    private void report(String name, long rows, long elapsedNanos) {
+        double seconds = elapsedNanos / 1_000_000_000.0;
+        System.out.printf("[benchmark] %s: %d rows in %.3f s (%.0f rows/s)%n", name, rows, seconds, rows / seconds);
+    }
+}
@@ -0,0 +1,96 @@
+package com.team5.pyeonjip.global.jwt;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+
+// JWTFilter 요청당 토큰 검증 비용 측정 (./gradlew benchmark)
+@Tag("benchmark")
+class JWTFilterBenchmarkTest {
+
+    private static final String SECRET = "benchmark-secret-key-for-jwt-filter-at-least-256-bits";
+    private static final int WARMUP = 20_000;
+    private static final int ITERATIONS = 200_000;
+
+    private final SecretKey key = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    // 변경 전: 값마다 파서를 새로 만들어 서명 검증 (isExpired, getCategory, getEmail, getRole)
+    @Test
+    void legacyFourParses() {
+        String token = new JWTUtil(SECRET, 0).createJwt("access", "bench@test.com", "ROLE_USER", 3_600_000L);
+
+        Runnable legacy = () -> {
+            for (int i = 0; i < 4; i++) {
+                Jwts.parser().clockSkewSeconds(30).verifyWith(key).build().parseSignedClaims(token).getPayload();
+            }
+        };
+        run("legacy (4 parses per request)", legacy);
+    }
+
+    // 변경 후, 캐시 없음: 재사용 파서로 한 번 검증
+    @Test
+    void filterSingleParse() throws Exception {
+        runFilter("filter, single parse", new JWTUtil(SECRET, 0));
+    }
+
+    // 변경 후, 캐시 사용: 같은 토큰 반복 요청
+    @Test
+    void filterCached() throws Exception {
+        runFilter("filter, verified cache", new JWTUtil(SECRET, 10_000));
+    }
+
+    private void runFilter(String name, JWTUtil jwtUtil) throws Exception {
+        String token = jwtUtil.createJwt("access", "bench@test.com", "ROLE_USER", 3_600_000L);
+        // 폐기 확인은 Bloom 필터에서 끝나는 경우가 대부분이므로 측정에서 제외
+        JWTFilter filter = new JWTFilter(jwtUtil, mock(TokenRevocationService.class));
+
+        Runnable request = () -> {
+            MockHttpServletRequest servletRequest = new MockHttpServletRequest("GET", "/api/cart");
+            servletRequest.addHeader("Authorization", "Bearer " + token);
+            try {
+                filter.doFilter(servletRequest, new MockHttpServletResponse(), new MockFilterChain());
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+            SecurityContextHolder.clearContext();
+        };
+        run(name, request);
+
+        MockHttpServletRequest check = new MockHttpServletRequest("GET", "/api/cart");
+        check.addHeader("Authorization", "Bearer " + token);
+        filter.doFilter(check, new MockHttpServletResponse(), new MockFilterChain());
+        assertEquals("bench@test.com", SecurityContextHolder.getContext().getAuthentication().getName());
+    }
+
+    private void run(String name, Runnable task) {
+        for (int i = 0; i < WARMUP; i++) {
+            task.run();
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            task.run();
+        }
+        long elapsed = System.nanoTime() - start;
+
+        System.out.printf("[benchmark] %s: %.2f us/request (%.0f requests/s)%n",
+                name, elapsed / 1_000.0 / ITERATIONS, ITERATIONS / (elapsed / 1_000_000_000.0));
+    }
+}
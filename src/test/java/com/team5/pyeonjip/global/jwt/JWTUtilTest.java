@@ -0,0 +1,56 @@
+package com.team5.pyeonjip.global.jwt;
+
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JWTUtilTest {
+
+    private static final String SECRET = "test-secret-key-for-jwt-util-must-be-at-least-256-bits";
+
+    private final JWTUtil jwtUtil = new JWTUtil(SECRET, 100);
+
+    @Test
+    @DisplayName("parse 한 번으로 모든 값 조회, 캐시된 토큰도 같은 값")
+    void parseReturnsAllClaims() {
+        String token = jwtUtil.createJwt("access", "user@test.com", "ROLE_USER", 60_000L);
+
+        TokenClaims first = jwtUtil.parse(token);
+        TokenClaims second = jwtUtil.parse(token);
+
+        assertTrue(first.isAccess());
+        assertEquals("user@test.com", first.email());
+        assertEquals("ROLE_USER", first.role());
+        assertEquals(first, second);
+    }
+
+    @Test
+    @DisplayName("발급마다 서로 다른 jti")
+    void uniqueTokenId() {
+        TokenClaims first = jwtUtil.parse(jwtUtil.createJwt("access", "user@test.com", "ROLE_USER", 60_000L));
+        TokenClaims second = jwtUtil.parse(jwtUtil.createJwt("access", "user@test.com", "ROLE_USER", 60_000L));
+
+        assertNotNull(first.id());
+        assertNotEquals(first.id(), second.id());
+    }
+
+    @Test
+    @DisplayName("만료된 토큰은 ExpiredJwtException")
+    void expiredToken() {
+        String token = jwtUtil.createJwt("access", "user@test.com", "ROLE_USER", -60_000L);
+
+        assertThrows(ExpiredJwtException.class, () -> jwtUtil.parse(token));
+    }
+
+    @Test
+    @DisplayName("다른 키로 서명된 토큰은 거절")
+    void tamperedToken() {
+        JWTUtil other = new JWTUtil(SECRET.replace('t', 'x'), 100);
+        String token = other.createJwt("access", "admin@test.com", "ROLE_ADMIN", 60_000L);
+
+        assertThrows(JwtException.class, () -> jwtUtil.parse(token));
+    }
+}
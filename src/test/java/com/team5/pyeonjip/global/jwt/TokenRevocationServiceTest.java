@@ -0,0 +1,129 @@
+package com.team5.pyeonjip.global.jwt;
+
+import com.team5.pyeonjip.user.storage.RefreshTokenStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RScoredSortedSet;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.Codec;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class TokenRevocationServiceTest {
+
+    // Redis 정렬 집합 대신 쓰는 jti -> 만료 시각
+    private final Map<String, Double> revoked = new ConcurrentHashMap<>();
+
+    private RedissonClient redissonClient;
+    private RScoredSortedSet<String> revokedSet;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redissonClient = mock(RedissonClient.class);
+        revokedSet = mock(RScoredSortedSet.class);
+
+        when(redissonClient.<String>getScoredSortedSet(anyString(), any(Codec.class))).thenReturn(revokedSet);
+        when(redissonClient.getTopic(anyString(), any(Codec.class))).thenReturn(mock(RTopic.class));
+
+        when(revokedSet.add(anyDouble(), anyString())).thenAnswer(invocation -> {
+            revoked.put(invocation.getArgument(1), invocation.getArgument(0));
+            return true;
+        });
+        when(revokedSet.getScore(anyString())).thenAnswer(invocation -> revoked.get(invocation.<String>getArgument(0)));
+        when(revokedSet.readAll()).thenAnswer(invocation -> new ArrayList<>(revoked.keySet()));
+    }
+
+    // 필터 생성을 호출 스레드에서 바로 실행
+    private TokenRevocationService service(long minCapacity) {
+        TokenRevocationService service = new TokenRevocationService(mock(JWTUtil.class), mock(RefreshTokenStore.class),
+                redissonClient, minCapacity, 0.001, 100, Runnable::run);
+        service.warmUp();
+        return service;
+    }
+
+    private static TokenClaims claims(String id) {
+        return new TokenClaims(id, "access", "user@test.com", "ROLE_USER", new Date(System.currentTimeMillis() + 60_000L));
+    }
+
+    @Test
+    @DisplayName("폐기되지 않은 토큰은 Redis를 보지 않고 통과")
+    void notRevokedSkipsRedis() {
+        TokenRevocationService service = service(1_000);
+
+        assertFalse(service.isRevoked(claims("a")));
+        verify(revokedSet, never()).getScore(anyString());
+    }
+
+    @Test
+    @DisplayName("폐기한 토큰은 거절하고, 확인된 토큰은 다시 Redis를 보지 않음")
+    void revokedToken() {
+        TokenRevocationService service = service(1_000);
+        service.revoke(claims("a"));
+
+        assertTrue(service.isRevoked(claims("a")));
+        assertTrue(service.isRevoked(claims("a")));
+        verify(revokedSet, times(1)).getScore("a");
+    }
+
+    @Test
+    @DisplayName("필터에 걸렸는데 Redis 확인이 실패하면 폐기된 것으로 판단")
+    void failClosedOnRedisError() {
+        TokenRevocationService service = service(1_000);
+        service.revoke(claims("a"));
+        when(revokedSet.getScore("a")).thenThrow(new IllegalStateException("redis down"));
+
+        assertTrue(service.isRevoked(claims("a")));
+    }
+
+    @Test
+    @DisplayName("필터를 만들지 못하면 확인을 생략하고, 재시도 간격 전에는 다시 읽지 않음")
+    void skipWhileFilterUnavailable() {
+        when(revokedSet.readAll()).thenThrow(new IllegalStateException("redis down"));
+        TokenRevocationService service = service(1_000);
+
+        assertFalse(service.isRevoked(claims("a")));
+        assertFalse(service.isRevoked(claims("b")));
+        verify(revokedSet, times(1)).readAll();
+    }
+
+    @Test
+    @DisplayName("예상 개수를 넘으면 Redis의 폐기 목록으로 더 큰 필터를 다시 만듦")
+    void resizeOnOverflow() {
+        TokenRevocationService service = service(4);
+        for (int i = 0; i < 10; i++) {
+            service.revoke(claims("id-" + i));
+        }
+
+        verify(revokedSet, atLeast(2)).readAll();
+        for (int i = 0; i < 10; i++) {
+            assertTrue(service.isRevoked(claims("id-" + i)));
+        }
+    }
+
+    @Test
+    @DisplayName("재생성 중 추가된 jti도 새 필터에 반영")
+    void bufferDuringRebuild() {
+        TokenRevocationService service = service(1_000);
+
+        // 목록을 읽는 도중 다른 인스턴스의 폐기 알림이 도착한 상황 (읽은 목록에는 없음)
+        List<String> snapshot = new ArrayList<>(revoked.keySet());
+        when(revokedSet.readAll()).thenAnswer(invocation -> {
+            service.revoke(claims("during"));
+            return snapshot;
+        });
+        service.rebuild();
+
+        assertTrue(service.isRevoked(claims("during")));
+    }
+}
@@ -0,0 +1,76 @@
+package com.team5.pyeonjip.global.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdaptivePasswordEncoderTest {
+
+    private static AdaptivePasswordEncoder encoder(String idForEncode, int strength) {
+        return encoder(idForEncode, strength, true);
+    }
+
+    private static AdaptivePasswordEncoder encoder(String idForEncode, int strength, boolean allowDowngrade) {
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(strength);
+        Map<String, PasswordEncoder> encoders = Map.of(
+                "bcrypt", bcrypt,
+                "pbkdf2@SpringSecurity_v5_8", Pbkdf2PasswordEncoder.defaultsForSpringSecurity_v5_8());
+
+        DelegatingPasswordEncoder delegate = new DelegatingPasswordEncoder(idForEncode, encoders);
+        delegate.setDefaultPasswordEncoderForMatches(bcrypt);
+        return new AdaptivePasswordEncoder(delegate, strength, allowDowngrade);
+    }
+
+    @Test
+    @DisplayName("접두사 없는 기존 BCrypt 해시도 검증하고 다시 해시 대상으로 판단")
+    void legacyHash() {
+        AdaptivePasswordEncoder encoder = encoder("bcrypt", 5);
+        String legacy = new BCryptPasswordEncoder(5).encode("password");
+
+        assertTrue(encoder.matches("password", legacy));
+        assertTrue(encoder.upgradeEncoding(legacy));
+    }
+
+    @Test
+    @DisplayName("cost를 고정하면 BCrypt cost가 현재 설정보다 높거나 낮으면 다시 해시, 같으면 유지")
+    void bcryptCost() {
+        String lower = encoder("bcrypt", 4).encode("password");
+        String same = encoder("bcrypt", 5).encode("password");
+        String higher = encoder("bcrypt", 6).encode("password");
+
+        AdaptivePasswordEncoder encoder = encoder("bcrypt", 5);
+        assertTrue(encoder.upgradeEncoding(lower));
+        assertFalse(encoder.upgradeEncoding(same));
+        assertTrue(encoder.upgradeEncoding(higher));
+        assertTrue(encoder.matches("password", higher));
+    }
+
+    @Test
+    @DisplayName("측정한 cost를 쓰면 더 높은 cost의 해시는 유지")
+    void calibratedStrengthOnlyUpgrades() {
+        String lower = encoder("bcrypt", 4).encode("password");
+        String higher = encoder("bcrypt", 6).encode("password");
+
+        AdaptivePasswordEncoder encoder = encoder("bcrypt", 5, false);
+        assertTrue(encoder.upgradeEncoding(lower));
+        assertFalse(encoder.upgradeEncoding(higher));
+    }
+
+    @Test
+    @DisplayName("알고리즘이 바뀌면 기존 해시를 검증한 뒤 다시 해시 대상으로 판단")
+    void algorithmChange() {
+        String bcrypt = encoder("bcrypt", 4).encode("password");
+
+        AdaptivePasswordEncoder encoder = encoder("pbkdf2@SpringSecurity_v5_8", 4);
+        assertTrue(encoder.matches("password", bcrypt));
+        assertTrue(encoder.upgradeEncoding(bcrypt));
+        assertFalse(encoder.upgradeEncoding(encoder.encode("password")));
+    }
+}
@@ -0,0 +1,49 @@
+package com.team5.pyeonjip.global.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BloomFilterTest {
+
+    @Test
+    @DisplayName("추가한 값은 항상 있을 수도 있다고 판단")
+    void noFalseNegatives() {
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("CODE-" + i);
+        }
+
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(filter.mightContain("CODE-" + i));
+        }
+    }
+
+    @Test
+    @DisplayName("오탐률이 지정한 값 근처로 유지")
+    void falsePositiveRate() {
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("CODE-" + i);
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightContain("OTHER-" + i)) {
+                falsePositives++;
+            }
+        }
+        assertTrue(falsePositives < 2_000, "오탐 " + falsePositives + "건");
+    }
+
+    @Test
+    @DisplayName("같은 값을 다시 넣으면 개수가 늘지 않음")
+    void duplicatePut() {
+        BloomFilter filter = new BloomFilter(100, 0.01);
+
+        assertTrue(filter.put("A"));
+        assertFalse(filter.put("A"));
+        assertEquals(1, filter.approximateCount());
+    }
+}
@@ -1,5 +1,6 @@
 package com.team5.pyeonjip.order.service;
 
+import com.team5.pyeonjip.coupon.service.CouponRedemptionService;
 import com.team5.pyeonjip.order.dto.OrderDetailDto;
 import com.team5.pyeonjip.order.repository.DeliveryRepository;
 import com.team5.pyeonjip.order.repository.OrderDetailRepository;
@@ -40,11 +41,12 @@ class OrderServiceImplTest {
         DeliveryRepository deliveryRepository = mock(DeliveryRepository.class);
         OrderDetailRepository orderDetailRepository = mock(OrderDetailRepository.class);
         ProductDetailService productDetailService = mock(ProductDetailService.class);
+        CouponRedemptionService couponRedemptionService = mock(CouponRedemptionService.class);
 
         // 올바른 생성자 사용
         orderService = new OrderServiceImpl(
                 redissonClient, orderRepository, userRepository, deliveryRepository,
-                orderDetailRepository, productDetailRepository, productDetailService
+                orderDetailRepository, productDetailRepository, productDetailService, couponRedemptionService
         );
 
         // 초기 재고 100개